@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Formats the current time of a {@link Time} as text, reusing the last result until the time moves to the next
+ * tick of a given resolution, e.g. once per second for an HTTP {@code Date} header.
+ * <p>
+ * The time is truncated to the resolution before being formatted, so that the cached text is the same one
+ * the formatter would produce for any time within the tick. The last tick and its text are published together
+ * through a volatile field, so that reads within a tick cost a clock read and a comparison. When threads cross
+ * a tick concurrently, each of them may format the new tick once.
+ */
+public class CachedTimestampFormatter implements Supplier<String> {
+
+    private final Time time;
+    private final DateTimeFormatter formatter;
+    private final long resolutionMillis;
+
+    private volatile Formatted cached;
+
+    /**
+     * Creates a formatter of the current time.
+     *
+     * @param time       the time source
+     * @param formatter  the formatter, which uses the zone of the time source if it has no zone of its own
+     * @param resolution the resolution of the formatted time, at least one millisecond
+     * @throws IllegalArgumentException if the resolution is finer than a millisecond
+     */
+    public CachedTimestampFormatter(Time time, DateTimeFormatter formatter, TimeUnit resolution) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        Objects.requireNonNull(formatter, "formatter must not be null");
+        this.formatter = formatter.getZone() == null ? formatter.withZone(time.getZone()) : formatter;
+        this.resolutionMillis = Objects.requireNonNull(resolution, "resolution must not be null").toMillis(1);
+        if (resolutionMillis <= 0) {
+            throw new IllegalArgumentException("The resolution must be at least one millisecond: " + resolution);
+        }
+    }
+
+    /**
+     * Creates a formatter of RFC 1123 dates in GMT, as used by the HTTP {@code Date} header,
+     * e.g. {@code Tue, 3 Jun 2008 11:05:30 GMT}, updated once per second.
+     *
+     * @param time the time source
+     * @return the formatter
+     */
+    public static CachedTimestampFormatter rfc1123(Time time) {
+        return new CachedTimestampFormatter(time, DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC),
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a formatter of ISO-8601 timestamps with milliseconds and the offset of the zone of the time source,
+     * e.g. {@code 2008-06-03T11:05:30.123+01:00}, updated once per millisecond.
+     *
+     * @param time the time source
+     * @return the formatter
+     */
+    public static CachedTimestampFormatter iso8601(Time time) {
+        return new CachedTimestampFormatter(time, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the current time as text.
+     *
+     * @return the formatted time
+     */
+    @Override
+    public String get() {
+        return format(time.millis());
+    }
+
+    /**
+     * Returns the given time as text, reusing the cached text if it falls within the same tick.
+     *
+     * @param epochMillis the time in milliseconds since the Unix epoch
+     * @return the formatted time
+     */
+    public String format(long epochMillis) {
+        long tick = Math.floorDiv(epochMillis, resolutionMillis);
+        Formatted formatted = cached;
+        if (formatted != null && formatted.tick == tick) {
+            return formatted.text;
+        }
+        String text = formatter.format(Instant.ofEpochMilli(tick * resolutionMillis));
+        cached = new Formatted(tick, text);
+        return text;
+    }
+
+    private static final class Formatted {
+
+        final long tick;
+        final String text;
+
+        Formatted(long tick, String text) {
+            this.tick = tick;
+            this.text = text;
+        }
+    }
+}
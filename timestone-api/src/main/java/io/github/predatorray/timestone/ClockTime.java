@@ -25,7 +25,11 @@
 package io.github.predatorray.timestone;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract base class to ensure {@link Time} implementations
@@ -33,9 +37,104 @@ import java.time.ZoneId;
  * <p>
  * This allows time sources to be compatible with APIs expecting {@code Clock},
  * while also providing additional functionality defined in {@code Time}.
+ * <p>
+ * It also provides primitive accessors of the local date and time in the zone of the clock, such as
+ * {@link #localEpochDay()} and {@link #localSecondOfDay()}. They avoid creating a {@code ZonedDateTime} by caching
+ * the offset of the zone until its next transition, so that reading them costs a clock read and some arithmetic.
  */
 public abstract class ClockTime extends Clock implements Time {
 
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private volatile ZoneOffsetCache zoneOffsetCache;
+
     @Override
     public abstract ClockTime withZone(ZoneId zone);
+
+    /**
+     * Returns the offset from UTC of the zone of this clock at the current time.
+     *
+     * @return the offset in seconds
+     */
+    public int localOffsetSeconds() {
+        return offsetSecondsAt(millis());
+    }
+
+    /**
+     * Returns the current local date and time in the zone of this clock, as milliseconds since
+     * 1970-01-01T00:00 local time.
+     *
+     * @return the local epoch milliseconds
+     */
+    public long localEpochMillis() {
+        long millis = millis();
+        return millis + offsetSecondsAt(millis) * 1000L;
+    }
+
+    /**
+     * Returns the current local date in the zone of this clock, as the number of days since 1970-01-01,
+     * like {@link java.time.LocalDate#toEpochDay()}.
+     *
+     * @return the local epoch day
+     */
+    public long localEpochDay() {
+        return Math.floorDiv(localEpochMillis(), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the current local time in the zone of this clock, as the number of milliseconds since midnight.
+     *
+     * @return the millisecond of the day, from {@code 0} to {@code 86,399,999}
+     */
+    public int localMillisOfDay() {
+        return (int) Math.floorMod(localEpochMillis(), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the current local time in the zone of this clock, as the number of seconds since midnight,
+     * like {@link java.time.LocalTime#toSecondOfDay()}.
+     *
+     * @return the second of the day, from {@code 0} to {@code 86,399}
+     */
+    public int localSecondOfDay() {
+        return localMillisOfDay() / 1000;
+    }
+
+    private int offsetSecondsAt(long epochMillis) {
+        ZoneOffsetCache cache = zoneOffsetCache;
+        ZoneId zone = getZone();
+        if (cache == null || (cache.zone != zone && !cache.zone.equals(zone)) || epochMillis < cache.validFromMillis
+                || epochMillis >= cache.validUntilMillis) {
+            cache = new ZoneOffsetCache(zone, epochMillis);
+            zoneOffsetCache = cache;
+        }
+        return cache.offsetSeconds;
+    }
+
+    /**
+     * The offset of a zone during the period between two of its transitions.
+     */
+    private static final class ZoneOffsetCache {
+
+        final ZoneId zone;
+        final int offsetSeconds;
+        final long validFromMillis;
+        final long validUntilMillis;
+
+        ZoneOffsetCache(ZoneId zone, long epochMillis) {
+            ZoneRules rules = zone.getRules();
+            Instant instant = Instant.ofEpochMilli(epochMillis);
+            this.zone = zone;
+            this.offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                this.validFromMillis = Long.MIN_VALUE;
+                this.validUntilMillis = Long.MAX_VALUE;
+            } else {
+                ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                this.validFromMillis = previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000L;
+                this.validUntilMillis = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L;
+            }
+        }
+    }
 }
@@ -0,0 +1,284 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Time} implementation that serves the system clock from a cached value.
+ * <p>
+ * A daemon thread refreshes the cached time at a fixed resolution, e.g. every millisecond,
+ * so that reading the time is a plain volatile read instead of a call into the operating system clock.
+ * It is intended for hot paths such as logging, metrics or TTL checks that call {@link #millis()}
+ * very frequently but do not need sub-resolution precision.
+ * <p>
+ * The values returned by this time source may lag behind the system clock by up to one resolution,
+ * plus any scheduling delay of the refreshing thread.
+ * <p>
+ * Each constructed instance starts its own refreshing thread, which is only shared with the copies returned by
+ * {@link #withZone(ZoneId)} and keeps running until the instance is {@link #close() closed}. An application should
+ * therefore construct one instance and share it, rather than constructing one per use.
+ * Once closed, the refreshing thread stops and the time is read from the system clock directly.
+ */
+public class CoarseSystemTime extends ClockTime implements AutoCloseable {
+
+    /**
+     * The default resolution at which the cached time is refreshed.
+     */
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(1);
+
+    private final Refresher refresher;
+
+    private final ZoneId zoneId;
+
+    /**
+     * Constructs a {@code CoarseSystemTime} with the {@linkplain #DEFAULT_RESOLUTION default resolution}
+     * using the system default time zone.
+     */
+    public CoarseSystemTime() {
+        this(DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Constructs a {@code CoarseSystemTime} with the specified resolution using the system default time zone.
+     *
+     * @param resolution the interval at which the cached time is refreshed, must be positive
+     * @throws IllegalArgumentException if the resolution is zero or negative
+     */
+    public CoarseSystemTime(Duration resolution) {
+        this(resolution, ZoneId.systemDefault());
+    }
+
+    /**
+     * Constructs a {@code CoarseSystemTime} with the specified resolution and time zone.
+     *
+     * @param resolution the interval at which the cached time is refreshed, must be positive
+     * @param zoneId     the time zone to use, must not be null
+     * @throws IllegalArgumentException if the resolution is zero or negative
+     */
+    public CoarseSystemTime(Duration resolution, ZoneId zoneId) {
+        this(new Refresher(resolution), zoneId);
+        refresher.zoneCache.put(zoneId, this);
+        // Started only once the arguments are validated, so that a failed construction does not leak the thread
+        refresher.start();
+    }
+
+    private CoarseSystemTime(Refresher refresher, ZoneId zoneId) {
+        this.refresher = refresher;
+        this.zoneId = Objects.requireNonNull(zoneId, "zoneId must not be null");
+    }
+
+    /**
+     * Gets the time zone associated with this clock.
+     *
+     * @return the time zone
+     */
+    @Override
+    public ZoneId getZone() {
+        return zoneId;
+    }
+
+    /**
+     * Returns a copy of this {@code CoarseSystemTime} with a different time zone.
+     * <p>
+     * The copy shares the refreshing thread with this instance,
+     * so closing either of them stops the refreshing for both.
+     * The copies are cached per zone, so that repeated calls return the same instance.
+     *
+     * @param zone the time zone to change to, not null
+     * @return a {@code CoarseSystemTime} with the specified time zone
+     */
+    @Override
+    public CoarseSystemTime withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone must not be null");
+        if (zone.equals(zoneId)) {
+            return this;
+        }
+        return refresher.zoneCache.computeIfAbsent(zone, z -> new CoarseSystemTime(refresher, z));
+    }
+
+    /**
+     * Gets the resolution at which the cached time is refreshed.
+     *
+     * @return the resolution
+     */
+    public Duration getResolution() {
+        return Duration.ofNanos(refresher.resolutionNanos);
+    }
+
+    /**
+     * Gets the cached current time in milliseconds.
+     *
+     * @return the current epoch milliseconds
+     */
+    @Override
+    public long millis() {
+        return refresher.millis();
+    }
+
+    /**
+     * Gets the cached current instant.
+     *
+     * @return the current instant
+     */
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(refresher.millis());
+    }
+
+    /**
+     * Gets the cached current time in microseconds.
+     *
+     * @return the current epoch microseconds
+     */
+    @Override
+    public long epochMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(refresher.millis());
+    }
+
+    /**
+     * Gets the cached current time in nanoseconds.
+     *
+     * @return the current epoch nanoseconds
+     */
+    @Override
+    public long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(refresher.millis());
+    }
+
+    /**
+     * Gets the cached value of {@link System#nanoTime()}.
+     *
+     * @return the current value of the time source, in nanoseconds
+     */
+    @Override
+    public long nanoTime() {
+        return refresher.nanoTime();
+    }
+
+    /**
+     * Causes the current thread to sleep for the specified number of milliseconds.
+     *
+     * @param millis the length of time to sleep in milliseconds
+     * @throws InterruptedException if any thread has interrupted the current thread
+     */
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    /**
+     * Stops the thread refreshing the cached time.
+     * <p>
+     * After closing, the time is read from the system clock directly.
+     * This method is idempotent.
+     */
+    @Override
+    public void close() {
+        refresher.close();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CoarseSystemTime that = (CoarseSystemTime) o;
+        return refresher == that.refresher && Objects.equals(zoneId, that.zoneId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(refresher), zoneId);
+    }
+
+    private static final class Refresher implements Runnable {
+
+        private final long resolutionNanos;
+
+        private final Thread thread;
+
+        private volatile long currentMillis;
+        private volatile long currentNanos;
+
+        private volatile boolean closed = false;
+
+        final ConcurrentHashMap<ZoneId, CoarseSystemTime> zoneCache = new ConcurrentHashMap<>();
+
+        Refresher(Duration resolution) {
+            Objects.requireNonNull(resolution, "resolution must not be null");
+            if (resolution.isNegative() || resolution.isZero()) {
+                throw new IllegalArgumentException("resolution must be positive");
+            }
+            this.resolutionNanos = resolution.toNanos();
+            refresh();
+
+            this.thread = new Thread(this, "timestone-coarse-system-time");
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        long millis() {
+            if (closed) {
+                return System.currentTimeMillis();
+            }
+            return currentMillis;
+        }
+
+        long nanoTime() {
+            if (closed) {
+                return System.nanoTime();
+            }
+            return currentNanos;
+        }
+
+        private void refresh() {
+            currentMillis = System.currentTimeMillis();
+            currentNanos = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            while (!closed) {
+                LockSupport.parkNanos(this, resolutionNanos);
+                refresh();
+            }
+        }
+
+        void close() {
+            closed = true;
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A concurrent key-value cache whose entries expire a fixed duration after they are written (time-to-live),
+ * after they were last read or written (time-to-idle), or both. The durations are measured with
+ * {@link Time#nanoTime()}, so that expiry can be tested deterministically with a mutable time.
+ * <p>
+ * An expired entry is never returned: reads check the expiry of the entry they find and remove it lazily.
+ * Entries that are not read again are removed in bulk by a timing wheel, without any per-entry scheduled task.
+ * Every entry is put into the bucket of the wheel tick at which it expires, and the buckets whose ticks have
+ * passed are swept by {@link #cleanUp()}, which is also called opportunistically by the reads and writes once
+ * a tick has passed, when no other thread is sweeping. An entry whose idle expiry was extended by reads is moved
+ * to a later bucket when swept, so each entry costs O(1) to schedule and O(1) to evict.
+ * <p>
+ * Null keys and values are not permitted.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int WHEEL_SIZE = 256;
+    private static final int TICKS_PER_TIMEOUT = 64;
+    private static final long MIN_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Time time;
+
+    private final long timeToLiveNanos;
+    private final long timeToIdleNanos;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+
+    private final long tickNanos;
+    private final ConcurrentLinkedQueue<Entry<K, V>>[] wheel;
+
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private final List<Entry<K, V>> rescheduled = new ArrayList<>();
+    private volatile long lastSweptTick;
+
+    /**
+     * Creates a cache whose entries expire a fixed duration after they are written.
+     *
+     * @param time       the time source
+     * @param timeToLive the duration after which an entry expires once written
+     * @throws IllegalArgumentException if {@code timeToLive} is not positive
+     */
+    public ExpiringCache(Time time, Duration timeToLive) {
+        this(time, Objects.requireNonNull(timeToLive, "timeToLive must not be null"), null);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param time       the time source
+     * @param timeToLive the duration after which an entry expires once written, or {@code null} for no limit
+     * @param timeToIdle the duration after which an entry expires once last read or written,
+     *                   or {@code null} for no limit
+     * @throws IllegalArgumentException if a duration is not positive
+     */
+    public ExpiringCache(Time time, Duration timeToLive, Duration timeToIdle) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.timeToLiveNanos = toNanos(timeToLive, "timeToLive");
+        this.timeToIdleNanos = toNanos(timeToIdle, "timeToIdle");
+
+        long shortestNanos = Math.min(timeToLiveNanos, timeToIdleNanos);
+        this.tickNanos = Math.max(MIN_TICK_NANOS, shortestNanos / TICKS_PER_TIMEOUT);
+        this.wheel = newWheel(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastSweptTick = Math.floorDiv(time.nanoTime(), tickNanos);
+    }
+
+    /**
+     * Returns the value associated with the key, if it has not expired.
+     * Reading an entry extends its time-to-idle.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if there is none or it has expired
+     */
+    public V get(K key) {
+        maybeCleanUp();
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = time.nanoTime();
+        if (isExpired(entry, now)) {
+            map.remove(key, entry);
+            return null;
+        }
+        entry.touch(now);
+        return entry.value;
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value and resetting the expiry of the entry.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value if it had not expired, or {@code null}
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        long now = time.nanoTime();
+        Entry<K, V> entry = new Entry<>(key, value, now);
+        Entry<K, V> previous = map.put(key, entry);
+        schedule(entry);
+        maybeCleanUp();
+        return previous == null || isExpired(previous, now) ? null : previous.value;
+    }
+
+    /**
+     * Associates the value with the key unless a value that has not expired is already associated with it.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the current value if it had not expired, in which case the cache is unchanged, or {@code null}
+     */
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "value must not be null");
+        long now = time.nanoTime();
+        Entry<K, V> newEntry = new Entry<>(key, value, now);
+        Entry<K, V> entry = map.compute(key,
+                (k, current) -> current != null && !isExpired(current, now) ? current : newEntry);
+        if (entry == newEntry) {
+            schedule(newEntry);
+            maybeCleanUp();
+            return null;
+        }
+        entry.touch(now);
+        return entry.value;
+    }
+
+    /**
+     * Returns the value associated with the key if it has not expired, or computes, stores and returns a new one.
+     * The computation is performed atomically, at most once per key at a time.
+     *
+     * @param key             the key
+     * @param mappingFunction the function computing the value, which may return {@code null} to store nothing
+     * @return the current or computed value, or {@code null} if the function returned {@code null}
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "mappingFunction must not be null");
+        long now = time.nanoTime();
+        Object[] created = new Object[1];
+        Entry<K, V> entry = map.compute(key, (k, current) -> {
+            if (current != null && !isExpired(current, now)) {
+                current.touch(now);
+                return current;
+            }
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            Entry<K, V> newEntry = new Entry<>(k, value, now);
+            created[0] = newEntry;
+            return newEntry;
+        });
+        if (entry == null) {
+            return null;
+        }
+        if (created[0] == entry) {
+            schedule(entry);
+            maybeCleanUp();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Removes the value associated with the key.
+     *
+     * @param key the key
+     * @return the removed value if it had not expired, or {@code null}
+     */
+    public V remove(K key) {
+        Entry<K, V> entry = map.remove(key);
+        return entry == null || isExpired(entry, time.nanoTime()) ? null : entry.value;
+    }
+
+    /**
+     * Removes all the entries, and empties the timing wheel.
+     */
+    public void invalidateAll() {
+        sweepLock.lock();
+        try {
+            for (ConcurrentLinkedQueue<Entry<K, V>> bucket : wheel) {
+                bucket.clear();
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+        // Cleared after the wheel, so that an entry written concurrently is either removed or still scheduled
+        map.clear();
+    }
+
+    /**
+     * Returns the number of entries in the cache, which may include expired entries not removed yet.
+     * Call {@link #cleanUp()} first for a more accurate count.
+     *
+     * @return the estimated number of entries
+     */
+    public long estimatedSize() {
+        return map.size();
+    }
+
+    int scheduledEntries() {
+        int count = 0;
+        for (ConcurrentLinkedQueue<Entry<K, V>> bucket : wheel) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Removes the expired entries whose wheel buckets are due. Blocks if another thread is sweeping.
+     */
+    public void cleanUp() {
+        sweepLock.lock();
+        try {
+            sweep();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private void maybeCleanUp() {
+        if (Math.floorDiv(time.nanoTime(), tickNanos) > lastSweptTick && sweepLock.tryLock()) {
+            try {
+                sweep();
+            } finally {
+                sweepLock.unlock();
+            }
+        }
+    }
+
+    private void sweep() {
+        long now = time.nanoTime();
+        long currentTick = Math.floorDiv(now, tickNanos);
+        long ticks = currentTick - lastSweptTick;
+        if (ticks <= 0) {
+            return;
+        }
+        long firstTick = ticks >= WHEEL_SIZE ? currentTick - WHEEL_SIZE + 1 : lastSweptTick + 1;
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<Entry<K, V>> bucket = wheel[bucketIndex(tick)];
+            Entry<K, V> entry;
+            while ((entry = bucket.poll()) != null) {
+                if (map.get(entry.key) != entry) {
+                    continue;
+                }
+                if (isExpired(entry, now)) {
+                    map.remove(entry.key, entry);
+                } else {
+                    rescheduled.add(entry);
+                }
+            }
+            for (Entry<K, V> alive : rescheduled) {
+                schedule(alive);
+            }
+            rescheduled.clear();
+        }
+        lastSweptTick = currentTick;
+    }
+
+    private void schedule(Entry<K, V> entry) {
+        if (timeToLiveNanos == Long.MAX_VALUE && timeToIdleNanos == Long.MAX_VALUE) {
+            return;
+        }
+        long expiresAt = Math.min(
+                saturatedAdd(entry.writeNanos, timeToLiveNanos),
+                saturatedAdd(entry.accessNanos, timeToIdleNanos));
+        long tick = -Math.floorDiv(-expiresAt, tickNanos);
+        wheel[bucketIndex(tick)].add(entry);
+    }
+
+    private boolean isExpired(Entry<K, V> entry, long now) {
+        return now - entry.writeNanos >= timeToLiveNanos || now - entry.accessNanos >= timeToIdleNanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> ConcurrentLinkedQueue<Entry<K, V>>[] newWheel(int size) {
+        return (ConcurrentLinkedQueue<Entry<K, V>>[]) new ConcurrentLinkedQueue<?>[size];
+    }
+
+    private static int bucketIndex(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long toNanos(Duration duration, String name) {
+        if (duration == null) {
+            return Long.MAX_VALUE;
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration);
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        final K key;
+        final V value;
+        final long writeNanos;
+        volatile long accessNanos;
+
+        Entry(K key, V value, long writeNanos) {
+            this.key = key;
+            this.value = value;
+            this.writeNanos = writeNanos;
+            this.accessNanos = writeNanos;
+        }
+
+        void touch(long now) {
+            if (accessNanos != now) {
+                accessNanos = now;
+            }
+        }
+    }
+}
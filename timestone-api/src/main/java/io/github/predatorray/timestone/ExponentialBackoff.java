@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe exponential {@link Backoff} whose delays are randomized by a {@link Jitter}.
+ * <p>
+ * The delay before the {@code n}-th retry is {@code initialDelayMillis * multiplier^n} before jitter,
+ * and never exceeds {@code maxDelayMillis} after jitter. The number of retries and the previous delay are packed
+ * into a single {@link AtomicLong}, so that a backoff shared by many threads advances with one compare-and-set
+ * per retry.
+ * <p>
+ * {@link #backoff()} waits for the delay through {@link Time#sleep(long)}, while {@link #backoffAsync()} returns
+ * a future completed by {@link Time#delay(long)} without blocking the caller.
+ */
+public class ExponentialBackoff implements Backoff {
+
+    private static final int DELAY_BITS = 48;
+    private static final long DELAY_MASK = (1L << DELAY_BITS) - 1;
+    private static final long MAX_ATTEMPTS = (1L << (Long.SIZE - DELAY_BITS)) - 1;
+
+    private final Time time;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double multiplier;
+    private final Jitter jitter;
+
+    /**
+     * The number of retries in the upper bits, and the previous delay in the lower 48 bits.
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Creates an exponential backoff without jitter.
+     *
+     * @param time               the time source used to wait for the delays
+     * @param initialDelayMillis the delay before the first retry
+     * @param maxDelayMillis     the maximum delay
+     * @param multiplier         the factor by which the delay grows with each retry
+     * @throws IllegalArgumentException if the delays are not positive or the multiplier is not greater than one
+     */
+    public ExponentialBackoff(Time time, long initialDelayMillis, long maxDelayMillis, double multiplier) {
+        this(time, initialDelayMillis, maxDelayMillis, multiplier, Jitter.NONE);
+    }
+
+    /**
+     * Creates an exponential backoff.
+     *
+     * @param time               the time source used to wait for the delays
+     * @param initialDelayMillis the delay before the first retry
+     * @param maxDelayMillis     the maximum delay
+     * @param multiplier         the factor by which the delay grows with each retry
+     * @param jitter             the strategy randomizing the delays
+     * @throws IllegalArgumentException if the delays are not positive or the multiplier is not greater than one
+     */
+    public ExponentialBackoff(Time time, long initialDelayMillis, long maxDelayMillis, double multiplier,
+                              Jitter jitter) {
+        if (initialDelayMillis <= 0 || maxDelayMillis <= 0 || !(multiplier > 1.0)) {
+            throw new IllegalArgumentException("Invalid arguments for backoff settings");
+        }
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.jitter = Objects.requireNonNull(jitter, "jitter must not be null");
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public long nextDelayMillis() {
+        while (true) {
+            long current = state.get();
+            long attempts = current >>> DELAY_BITS;
+            long previousDelayMillis = current & DELAY_MASK;
+
+            long delayMillis = Math.min(maxDelayMillis,
+                    Math.max(0L, jitter.apply(initialDelayMillis, exponentialDelayMillis(attempts),
+                            previousDelayMillis)));
+            long next = (Math.min(attempts + 1, MAX_ATTEMPTS) << DELAY_BITS) | Math.min(delayMillis, DELAY_MASK);
+            if (state.compareAndSet(current, next)) {
+                return delayMillis;
+            }
+        }
+    }
+
+    /**
+     * Sleeps for the next delay.
+     *
+     * @throws InterruptedException if the thread is interrupted while sleeping
+     */
+    public void backoff() throws InterruptedException {
+        time.sleep(nextDelayMillis());
+    }
+
+    /**
+     * Schedules the next delay without blocking the caller.
+     *
+     * @return a future completed once the next delay has elapsed
+     */
+    public CompletableFuture<Void> backoffAsync() {
+        return time.delay(nextDelayMillis());
+    }
+
+    @Override
+    public void reset() {
+        state.set(0L);
+    }
+
+    /**
+     * Returns the number of delays computed since the creation or the last reset.
+     *
+     * @return the number of retries
+     */
+    public long getAttempts() {
+        return state.get() >>> DELAY_BITS;
+    }
+
+    private long exponentialDelayMillis(long attempts) {
+        double delay = initialDelayMillis * Math.pow(multiplier, attempts);
+        return delay >= maxDelayMillis ? maxDelayMillis : (long) delay;
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A timer based on a hashed timing wheel, which reads the time only through a {@link Time} source.
+ * <p>
+ * Scheduling and cancelling a timeout are O(1) operations that never block, so the timer is suitable for holding
+ * a very large number of pending timeouts. The wheel consists of a fixed number of slots, each covering one tick.
+ * A timeout is hashed into the slot of the tick its deadline falls into, together with the number of wheel rounds
+ * that have to pass first. Timeouts therefore expire with a granularity of one tick.
+ * <p>
+ * The timer is driven by {@link #expireTimeouts()}, which runs the tasks of all the timeouts whose ticks
+ * have elapsed on the calling thread. In production, {@link #start()} spawns a daemon thread that sleeps through
+ * the {@code Time} source until the next tick and then expires the timeouts. In tests, the timer can be left
+ * unstarted and driven deterministically by advancing a mutable time and calling {@code expireTimeouts()}.
+ * <p>
+ * When more than one wheel revolution has elapsed since the timeouts were last expired, e.g. after a long jump of
+ * a mutable time, the timer does not walk through every elapsed tick. It expires the due timeouts in the order of
+ * their deadlines instead, so catching up costs at most one pass over the wheel.
+ */
+public class HashedWheelTimer implements AutoCloseable {
+
+    /**
+     * The default duration of a tick, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_DURATION_MILLIS = 1;
+
+    /**
+     * The default number of ticks, i.e. slots, per wheel.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final Time time;
+
+    private final long tickNanos;
+    private final long startNanos;
+
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<HashedWheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<HashedWheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final ReentrantLock expireLock = new ReentrantLock();
+    private volatile long tick = 0;
+
+    private final Object workerMonitor = new Object();
+    private Thread worker;
+    private volatile boolean running = false;
+    private volatile boolean workerIdle = false;
+
+    /**
+     * Creates a timer with the {@linkplain #DEFAULT_TICK_DURATION_MILLIS default tick duration}
+     * and the {@linkplain #DEFAULT_TICKS_PER_WHEEL default wheel size}.
+     *
+     * @param time the time source
+     */
+    public HashedWheelTimer(Time time) {
+        this(time, DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates a timer.
+     *
+     * @param time          the time source
+     * @param tickDuration  the duration of a tick, i.e. the granularity of the timeouts
+     * @param unit          the time unit of {@code tickDuration}
+     * @param ticksPerWheel the number of slots in the wheel, which is rounded up to a power of two
+     * @throws IllegalArgumentException if {@code tickDuration} or {@code ticksPerWheel} is not positive
+     */
+    public HashedWheelTimer(Time time, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        Objects.requireNonNull(unit, "unit must not be null");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be positive and at most 2^30");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        if (wheelSize == 0) {
+            wheelSize = 1;
+        }
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.startNanos = time.nanoTime();
+    }
+
+    /**
+     * Schedules the task to run once after the given delay.
+     *
+     * @param task  the task to run when the timeout expires
+     * @param delay the delay after which the task runs
+     * @param unit  the time unit of {@code delay}
+     * @return the handle of the scheduled timeout
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(unit, "unit must not be null");
+        long now = time.nanoTime() - startNanos;
+        long delayNanos = unit.toNanos(Math.max(delay, 0));
+        long deadline = delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+
+        HashedWheelTimeout timeout = new HashedWheelTimeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        if (workerIdle) {
+            synchronized (workerMonitor) {
+                workerMonitor.notifyAll();
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns a future that completes once the given delay has elapsed.
+     * <p>
+     * The future is completed by the thread expiring the timeouts.
+     * Cancelling the future cancels the underlying timeout.
+     *
+     * @param delay the delay after which the future completes
+     * @param unit  the time unit of {@code delay}
+     * @return a future that completes after the delay
+     */
+    public CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        DelayFuture future = new DelayFuture();
+        future.timeout = newTimeout(() -> future.complete(null), delay, unit);
+        return future;
+    }
+
+    /**
+     * Returns the number of timeouts that have neither expired nor been removed after cancellation.
+     *
+     * @return the number of pending timeouts
+     */
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Expires all the timeouts whose ticks have elapsed according to the {@link Time} source,
+     * running their tasks on the calling thread.
+     * <p>
+     * Exceptions thrown by the tasks are ignored. Calling this method from within a task has no effect.
+     *
+     * @return the number of timeouts that expired
+     */
+    public int expireTimeouts() {
+        if (expireLock.isHeldByCurrentThread()) {
+            return 0;
+        }
+        expireLock.lock();
+        try {
+            long now = time.nanoTime() - startNanos;
+            int expired = 0;
+            long currentTick = tick;
+            if (now >= 0 && now / tickNanos - currentTick > wheel.length) {
+                long targetTick = now / tickNanos;
+                if (pendingCount.get() > 0) {
+                    expired += expireTimeoutsByDeadline(currentTick, targetTick);
+                }
+                currentTick = targetTick;
+            }
+            while (now >= 0 && now / tickNanos > currentTick) {
+                if (pendingCount.get() == 0) {
+                    // Nothing to expire, skip the idle ticks at once
+                    currentTick = now / tickNanos;
+                    break;
+                }
+                transferPendingTimeouts(currentTick);
+                removeCancelledTimeouts();
+                expired += wheel[(int) (currentTick & mask)].expireTimeouts();
+                currentTick++;
+            }
+            tick = currentTick;
+            return expired;
+        } finally {
+            expireLock.unlock();
+        }
+    }
+
+    private int expireTimeoutsByDeadline(long currentTick, long targetTick) {
+        transferPendingTimeouts(currentTick);
+        removeCancelledTimeouts();
+        List<HashedWheelTimeout> timeouts = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            bucket.drainTo(timeouts);
+        }
+        List<HashedWheelTimeout> dueTimeouts = new ArrayList<>();
+        for (HashedWheelTimeout timeout : timeouts) {
+            long calculatedTick = timeout.deadline / tickNanos;
+            if (timeout.isCancelled()) {
+                pendingCount.decrementAndGet();
+            } else if (calculatedTick < targetTick) {
+                dueTimeouts.add(timeout);
+            } else {
+                timeout.remainingRounds = (calculatedTick - targetTick) / wheel.length;
+                wheel[(int) (calculatedTick & mask)].add(timeout);
+            }
+        }
+        dueTimeouts.sort(Comparator.comparingLong(timeout -> timeout.deadline));
+        int expired = 0;
+        for (HashedWheelTimeout timeout : dueTimeouts) {
+            pendingCount.decrementAndGet();
+            if (timeout.expire()) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private void transferPendingTimeouts(long currentTick) {
+        HashedWheelTimeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                pendingCount.decrementAndGet();
+                continue;
+            }
+            long calculatedTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = Math.max(calculatedTick - currentTick, 0) / wheel.length;
+            long targetTick = Math.max(calculatedTick, currentTick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        HashedWheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Starts a daemon thread that expires the timeouts as the time passes.
+     * <p>
+     * The thread waits for the next tick by calling {@link Time#sleep(long)} on the time source,
+     * so it should only be started with a time source whose {@code sleep} actually waits.
+     * This method has no effect if the thread has already been started.
+     *
+     * @throws IllegalStateException if the timer has been closed
+     */
+    public void start() {
+        synchronized (workerMonitor) {
+            if (worker != null) {
+                if (!running) {
+                    throw new IllegalStateException("Timer is closed");
+                }
+                return;
+            }
+            running = true;
+            worker = new Thread(this::runWorker, "timestone-hashed-wheel-timer");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                if (pendingCount.get() == 0) {
+                    waitForTimeouts();
+                } else {
+                    long sleepNanos = startNanos + (tick + 1) * tickNanos - time.nanoTime();
+                    if (sleepNanos > 0) {
+                        time.sleepNanos(sleepNanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                continue;
+            }
+            expireTimeouts();
+        }
+    }
+
+    private void waitForTimeouts() throws InterruptedException {
+        synchronized (workerMonitor) {
+            workerIdle = true;
+            try {
+                while (running && pendingCount.get() == 0) {
+                    workerMonitor.wait();
+                }
+            } finally {
+                workerIdle = false;
+            }
+        }
+    }
+
+    /**
+     * Stops the thread started by {@link #start()}, if any.
+     * <p>
+     * The pending timeouts are kept, and can still be expired by calling {@link #expireTimeouts()}.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (workerMonitor) {
+            running = false;
+            thread = worker;
+            workerMonitor.notifyAll();
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private static final class DelayFuture extends CompletableFuture<Void> {
+
+        private volatile Timeout timeout;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Timeout scheduledTimeout = timeout;
+            if (cancelled && scheduledTimeout != null) {
+                scheduledTimeout.cancel();
+            }
+            return cancelled;
+        }
+    }
+
+    private static final class Bucket {
+
+        private HashedWheelTimeout head;
+        private HashedWheelTimeout tail;
+
+        void add(HashedWheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        int expireTimeouts() {
+            int expired = 0;
+            HashedWheelTimeout timeout = head;
+            while (timeout != null) {
+                HashedWheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expired++;
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        void drainTo(List<HashedWheelTimeout> timeouts) {
+            HashedWheelTimeout timeout = head;
+            while (timeout != null) {
+                HashedWheelTimeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                timeouts.add(timeout);
+                timeout = next;
+            }
+            head = null;
+            tail = null;
+        }
+
+        void remove(HashedWheelTimeout timeout) {
+            HashedWheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            timeout.timer.pendingCount.decrementAndGet();
+        }
+    }
+
+    private static final class HashedWheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<HashedWheelTimeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        // The fields below are only accessed by the thread expiring the timeouts
+        long remainingRounds;
+        Bucket bucket;
+        HashedWheelTimeout prev;
+        HashedWheelTimeout next;
+
+        HashedWheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        boolean expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            try {
+                task.run();
+            } catch (Exception ignored) {
+                // Ignore exceptions from tasks so that the other timeouts still expire
+            }
+            return true;
+        }
+    }
+}
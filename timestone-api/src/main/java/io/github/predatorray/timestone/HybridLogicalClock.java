@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hybrid logical clock (HLC), as described by Kulkarni et al. in "Logical Physical Clocks and Consistent
+ * Snapshots in Globally Distributed Databases", using any {@link Time} as its physical clock.
+ * <p>
+ * A timestamp is packed into a non-negative {@code long}: the sign bit is always zero, the next 47 bits hold
+ * a physical time in milliseconds since the Unix epoch, and the lower 16 bits a logical counter, so that
+ * timestamps compare as plain {@code long}s.
+ * {@link #now()} returns a timestamp for a local or send event, and {@link #update(long)} one for the receipt of
+ * a remote timestamp. Timestamps are strictly increasing, are causally ordered across clocks exchanging them,
+ * and stay close to the physical time. If more than 2<sup>16</sup> timestamps are issued within the same
+ * millisecond, the logical counter overflows and carries into the physical time, so the clock runs one
+ * millisecond ahead of its physical clock, as if it had received a timestamp from that far ahead, until the
+ * physical clock catches up. The last timestamp is kept in a single {@link AtomicLong} updated by
+ * compare-and-set, so the clock can be shared by many threads without locking.
+ * <p>
+ * As a {@link Time}, the clock reads the greater of the physical time and the physical part of its last
+ * timestamp without issuing a new timestamp, while sleeps, delays and waits are delegated to the physical clock.
+ * Skews and partitions between nodes can thus be simulated with one mutable time per clock.
+ */
+public class HybridLogicalClock extends ClockTime {
+
+    /**
+     * The number of bits of the logical counter.
+     */
+    public static final int LOGICAL_BITS = 16;
+
+    private static final long LOGICAL_MASK = (1L << LOGICAL_BITS) - 1;
+
+    private final Time physicalTime;
+    private final long maxOffsetMillis;
+    private final AtomicLong last;
+
+    /**
+     * Creates a clock accepting remote timestamps regardless of how far ahead of the physical time they are.
+     *
+     * @param physicalTime the physical clock
+     */
+    public HybridLogicalClock(Time physicalTime) {
+        this(physicalTime, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a clock rejecting the remote timestamps whose physical time is too far ahead of the physical clock.
+     *
+     * @param physicalTime    the physical clock
+     * @param maxOffsetMillis the maximum number of milliseconds a remote timestamp may be ahead of the physical
+     *                        clock
+     * @throws IllegalArgumentException if {@code maxOffsetMillis} is negative
+     */
+    public HybridLogicalClock(Time physicalTime, long maxOffsetMillis) {
+        this(Objects.requireNonNull(physicalTime, "physicalTime must not be null"), maxOffsetMillis,
+                new AtomicLong());
+        if (maxOffsetMillis < 0) {
+            throw new IllegalArgumentException("maxOffsetMillis must not be negative: " + maxOffsetMillis);
+        }
+    }
+
+    private HybridLogicalClock(Time physicalTime, long maxOffsetMillis, AtomicLong last) {
+        this.physicalTime = physicalTime;
+        this.maxOffsetMillis = maxOffsetMillis;
+        this.last = last;
+    }
+
+    /**
+     * Returns a new timestamp for a local or send event.
+     *
+     * @return a timestamp greater than all the timestamps previously returned by this clock
+     */
+    public long now() {
+        while (true) {
+            long current = last.get();
+            long next = Math.max(current + 1, physicalTimestamp());
+            if (last.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns a new timestamp for the receipt of a timestamp issued by another clock.
+     *
+     * @param remoteTimestamp the received timestamp
+     * @return a timestamp greater than both the received timestamp and all the timestamps previously returned
+     * by this clock
+     * @throws IllegalArgumentException if the physical time of the received timestamp is ahead of the physical
+     *                                  clock by more than the maximum offset
+     */
+    public long update(long remoteTimestamp) {
+        while (true) {
+            long current = last.get();
+            long physical = physicalTimestamp();
+            if (physicalMillis(remoteTimestamp) - physicalMillis(physical) > maxOffsetMillis) {
+                throw new IllegalArgumentException("The remote timestamp " + toString(remoteTimestamp) +
+                        " is ahead of the physical clock by more than " + maxOffsetMillis + " ms.");
+            }
+            long next = Math.max(Math.max(current, remoteTimestamp) + 1, physical);
+            if (last.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns the last timestamp returned by this clock, without issuing a new one.
+     *
+     * @return the last timestamp, or zero if none has been issued
+     */
+    public long lastTimestamp() {
+        return last.get();
+    }
+
+    /**
+     * Packs a physical time and a logical counter into a timestamp.
+     *
+     * @param physicalMillis the physical time in milliseconds since the Unix epoch, which must fit in 47 bits
+     * @param logical        the logical counter, which must fit in {@value #LOGICAL_BITS} bits
+     * @return the timestamp
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public static long pack(long physicalMillis, int logical) {
+        if (physicalMillis < 0 || physicalMillis >>> (Long.SIZE - 1 - LOGICAL_BITS) != 0) {
+            throw new IllegalArgumentException("physicalMillis is out of range: " + physicalMillis);
+        }
+        if (logical < 0 || logical > LOGICAL_MASK) {
+            throw new IllegalArgumentException("logical is out of range: " + logical);
+        }
+        return physicalMillis << LOGICAL_BITS | logical;
+    }
+
+    /**
+     * Returns the physical time of a timestamp.
+     *
+     * @param timestamp the timestamp
+     * @return the physical time in milliseconds since the Unix epoch
+     */
+    public static long physicalMillis(long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+
+    /**
+     * Returns the logical counter of a timestamp.
+     *
+     * @param timestamp the timestamp
+     * @return the logical counter
+     */
+    public static int logical(long timestamp) {
+        return (int) (timestamp & LOGICAL_MASK);
+    }
+
+    /**
+     * Returns a human-readable representation of a timestamp, e.g. {@code 2020-01-01T00:00:00Z+3}.
+     *
+     * @param timestamp the timestamp
+     * @return the physical time as an instant, followed by the logical counter
+     */
+    public static String toString(long timestamp) {
+        return Instant.ofEpochMilli(physicalMillis(timestamp)) + "+" + logical(timestamp);
+    }
+
+    private long physicalTimestamp() {
+        return Math.max(0L, physicalTime.millis()) << LOGICAL_BITS;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return physicalTime.getZone();
+    }
+
+    /**
+     * Returns a view of this clock in another time zone, sharing its timestamps.
+     */
+    @Override
+    public HybridLogicalClock withZone(ZoneId zone) {
+        return new HybridLogicalClock(physicalTime.withZone(zone), maxOffsetMillis, last);
+    }
+
+    @Override
+    public long millis() {
+        return Math.max(physicalTime.millis(), physicalMillis(last.get()));
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public long nanoTime() {
+        return physicalTime.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        physicalTime.sleep(millis);
+    }
+
+    @Override
+    public void sleepNanos(long nanos) throws InterruptedException {
+        physicalTime.sleepNanos(nanos);
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long millis) {
+        return physicalTime.delay(millis);
+    }
+
+    @Override
+    public void await(CompletableFuture<?> future) throws InterruptedException {
+        physicalTime.await(future);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Time} decorator counting the clock reads, sleeps and delays of the components using it, and measuring
+ * how long the sleeps and delays actually last compared to what was requested.
+ * <p>
+ * The metrics are collected per tag: {@link #withTag(String)} returns a decorator of the same time recording into
+ * the {@link TimeMetrics} of another tag, so that each component or call site can be given its own view.
+ * The counters are {@link java.util.concurrent.atomic.LongAdder}s and the durations are measured with the
+ * {@linkplain Time#nanoTime() monotonic clock} of the decorated time, so the overhead is a few uncontended
+ * increments per call. Once {@link #registerMBeans()} has been called, the metrics of every tag are published
+ * on the platform MBean server under {@code io.github.predatorray.timestone:type=TimeMetrics,name=<tag>}.
+ */
+public class InstrumentedTime extends ClockTime {
+
+    /**
+     * The tag of the decorators created without one.
+     */
+    public static final String DEFAULT_TAG = "default";
+
+    private final Time delegate;
+    private final Registry registry;
+    private final TimeMetrics metrics;
+
+    /**
+     * Creates a decorator recording into the {@value #DEFAULT_TAG} tag.
+     *
+     * @param delegate the decorated time
+     */
+    public InstrumentedTime(Time delegate) {
+        this(delegate, DEFAULT_TAG);
+    }
+
+    /**
+     * Creates a decorator recording into the given tag.
+     *
+     * @param delegate the decorated time
+     * @param tag      the tag
+     */
+    public InstrumentedTime(Time delegate, String tag) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.registry = new Registry();
+        this.metrics = registry.metrics(tag);
+    }
+
+    private InstrumentedTime(Time delegate, Registry registry, TimeMetrics metrics) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns a decorator of the same time recording into the given tag. The decorators derived from the same
+     * instance share the metrics of each tag.
+     *
+     * @param tag the tag
+     * @return the decorator
+     * @throws IllegalStateException if the MBeans are registered and the one of a new tag cannot be registered
+     */
+    public InstrumentedTime withTag(String tag) {
+        return new InstrumentedTime(delegate, registry, registry.metrics(tag));
+    }
+
+    /**
+     * Returns the metrics of the tag of this decorator.
+     *
+     * @return the metrics
+     */
+    public TimeMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics of all the tags of the decorators derived from the same instance.
+     *
+     * @return an unmodifiable view of the metrics by tag
+     */
+    public Map<String, TimeMetrics> getAllMetrics() {
+        return Collections.unmodifiableMap(registry.metricsByTag);
+    }
+
+    /**
+     * Registers the metrics of all the tags, including the ones created later, on the platform MBean server.
+     *
+     * @throws IllegalStateException if an MBean cannot be registered, e.g. because another instance already
+     *                               registered the same tag
+     */
+    public void registerMBeans() {
+        registry.registerAll();
+    }
+
+    /**
+     * Unregisters the metrics of all the tags from the platform MBean server.
+     */
+    public void unregisterMBeans() {
+        registry.unregisterAll();
+    }
+
+    /**
+     * Returns the name under which the metrics of a tag are registered.
+     *
+     * @param tag the tag
+     * @return the object name
+     */
+    public static ObjectName objectName(String tag) {
+        try {
+            return new ObjectName("io.github.predatorray.timestone:type=TimeMetrics,name=" + ObjectName.quote(tag));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid tag: " + tag, e);
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return delegate.getZone();
+    }
+
+    @Override
+    public InstrumentedTime withZone(ZoneId zone) {
+        return new InstrumentedTime(delegate.withZone(zone), registry, metrics);
+    }
+
+    @Override
+    public long millis() {
+        metrics.recordMillis();
+        return delegate.millis();
+    }
+
+    @Override
+    public Instant instant() {
+        metrics.recordInstant();
+        return delegate.instant();
+    }
+
+    @Override
+    public long epochMicros() {
+        metrics.recordInstant();
+        return delegate.epochMicros();
+    }
+
+    @Override
+    public long epochNanos() {
+        metrics.recordInstant();
+        return delegate.epochNanos();
+    }
+
+    @Override
+    public long nanoTime() {
+        metrics.recordNanoTime();
+        return delegate.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        long start = delegate.nanoTime();
+        delegate.sleep(millis);
+        metrics.recordSleep(TimeUnit.MILLISECONDS.toNanos(Math.max(0L, millis)), delegate.nanoTime() - start);
+    }
+
+    @Override
+    public void sleepNanos(long nanos) throws InterruptedException {
+        long start = delegate.nanoTime();
+        delegate.sleepNanos(nanos);
+        metrics.recordSleep(Math.max(0L, nanos), delegate.nanoTime() - start);
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long millis) {
+        long start = delegate.nanoTime();
+        CompletableFuture<Void> future = delegate.delay(millis);
+        future.thenRun(() -> metrics.recordDelay(TimeUnit.MILLISECONDS.toNanos(Math.max(0L, millis)),
+                delegate.nanoTime() - start));
+        return future;
+    }
+
+    /**
+     * Delegates the wait without recording it, since its end is not determined by the time.
+     */
+    @Override
+    public void await(CompletableFuture<?> future) throws InterruptedException {
+        delegate.await(future);
+    }
+
+    private static final class Registry {
+
+        final ConcurrentHashMap<String, TimeMetrics> metricsByTag = new ConcurrentHashMap<>();
+
+        private final Set<String> registeredTags = new HashSet<>();
+        private volatile boolean registered = false;
+
+        TimeMetrics metrics(String tag) {
+            Objects.requireNonNull(tag, "tag must not be null");
+            TimeMetrics existing = metricsByTag.get(tag);
+            if (existing != null) {
+                return existing;
+            }
+            synchronized (this) {
+                return metricsByTag.computeIfAbsent(tag, t -> {
+                    TimeMetrics created = new TimeMetrics(t);
+                    if (registered) {
+                        register(created);
+                    }
+                    return created;
+                });
+            }
+        }
+
+        synchronized void registerAll() {
+            if (registered) {
+                return;
+            }
+            registered = true;
+            try {
+                for (TimeMetrics metrics : metricsByTag.values()) {
+                    register(metrics);
+                }
+            } catch (IllegalStateException e) {
+                unregisterAll();
+                throw e;
+            }
+        }
+
+        synchronized void unregisterAll() {
+            registered = false;
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (String tag : registeredTags) {
+                try {
+                    server.unregisterMBean(objectName(tag));
+                } catch (JMException e) {
+                    // unregistered by someone else
+                }
+            }
+            registeredTags.clear();
+        }
+
+        private void register(TimeMetrics metrics) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName(metrics.getTag()));
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to register the metrics of tag " + metrics.getTag(), e);
+            }
+            registeredTags.add(metrics.getTag());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A strategy randomizing the delays of a {@link Backoff}, so that clients failing at the same time
+ * do not retry in lockstep.
+ * <p>
+ * The strategies provided as constants are the ones described in the AWS Architecture Blog's
+ * <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And
+ * Jitter</a>. They draw random numbers from {@link ThreadLocalRandom}.
+ */
+@FunctionalInterface
+public interface Jitter {
+
+    /**
+     * Uses the exponential delay as it is.
+     */
+    Jitter NONE = (initialDelayMillis, exponentialDelayMillis, previousDelayMillis) -> exponentialDelayMillis;
+
+    /**
+     * Picks a delay uniformly between zero and the exponential delay.
+     */
+    Jitter FULL = (initialDelayMillis, exponentialDelayMillis, previousDelayMillis) ->
+            randomBetween(0L, exponentialDelayMillis);
+
+    /**
+     * Keeps half of the exponential delay and picks the other half uniformly at random.
+     */
+    Jitter EQUAL = (initialDelayMillis, exponentialDelayMillis, previousDelayMillis) -> {
+        long half = exponentialDelayMillis / 2;
+        return exponentialDelayMillis - half + randomBetween(0L, half);
+    };
+
+    /**
+     * Picks a delay uniformly between the initial delay and three times the previous delay,
+     * regardless of the exponential delay. The first delay is picked between the initial delay and three times it.
+     */
+    Jitter DECORRELATED = (initialDelayMillis, exponentialDelayMillis, previousDelayMillis) -> {
+        long base = previousDelayMillis > 0 ? previousDelayMillis : initialDelayMillis;
+        long upper = base > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : base * 3;
+        return randomBetween(initialDelayMillis, Math.max(initialDelayMillis, upper));
+    };
+
+    /**
+     * Computes the delay before the next retry.
+     *
+     * @param initialDelayMillis     the delay before the first retry, without jitter
+     * @param exponentialDelayMillis the delay before the next retry, without jitter
+     * @param previousDelayMillis    the delay returned for the previous retry, or zero for the first retry
+     * @return the delay in milliseconds, which will be capped by the maximum delay of the backoff
+     */
+    long apply(long initialDelayMillis, long exponentialDelayMillis, long previousDelayMillis);
+
+    /**
+     * Returns a random number between the given bounds, both inclusive.
+     *
+     * @param min the lower bound
+     * @param max the upper bound, not less than {@code min}
+     * @return a random number in {@code [min, max]}
+     */
+    static long randomBetween(long min, long max) {
+        if (min >= max) {
+            return min;
+        }
+        if (max == Long.MAX_VALUE) {
+            return ThreadLocalRandom.current().nextLong(min, max);
+        }
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, whose buckets are laid out log-linearly like
+ * HdrHistogram's.
+ * <p>
+ * Values below 64 nanoseconds are counted exactly. Larger values fall into one of the 32 linear sub-buckets
+ * of the power of two range they belong to, so that every reported value is within about 3% of the recorded one,
+ * across the whole {@code long} range. The buckets are a fixed array of counters updated with atomic increments,
+ * so recording never blocks and never allocates.
+ * <p>
+ * Durations are measured through the {@link Time} the histogram is created with, see {@link #recordSince(long)},
+ * so that percentiles can be asserted deterministically with a mutable time.
+ * Per-thread histograms can be {@linkplain #add(LatencyHistogram) merged}, and
+ * {@link #intervalSnapshot()} moves the counts recorded so far into a new histogram for periodic reporting.
+ * <p>
+ * Reads that race with recordings may observe some of the concurrent recordings and not the others,
+ * but counts are never lost.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    private static final int BUCKET_COUNT = (Long.SIZE + 1 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private final Time time;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong maxValue;
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param time the time source used by {@link #recordSince(long)}
+     */
+    public LatencyHistogram(Time time) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong();
+        this.maxValue = new AtomicLong();
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     * @throws IllegalArgumentException if {@code nanos} is negative
+     */
+    public void record(long nanos) {
+        record(nanos, 1L);
+    }
+
+    /**
+     * Records the same latency a number of times.
+     *
+     * @param nanos the latency in nanoseconds
+     * @param count the number of times it occurred
+     * @throws IllegalArgumentException if {@code nanos} or {@code count} is negative
+     */
+    public void record(long nanos, long count) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("The latency must not be negative: " + nanos);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("The count must not be negative: " + count);
+        }
+        if (count == 0) {
+            return;
+        }
+        counts.addAndGet(bucketIndex(nanos), count);
+        totalCount.addAndGet(count);
+        updateMax(nanos);
+    }
+
+    /**
+     * Records the time elapsed since the given {@link Time#nanoTime()} reading of the histogram's time source.
+     *
+     * @param startNanos the reading taken when the measured operation started
+     * @return the recorded latency in nanoseconds
+     */
+    public long recordSince(long startNanos) {
+        long elapsed = Math.max(0L, time.nanoTime() - startNanos);
+        record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Records the total elapsed time of a stopwatch.
+     *
+     * @param stopWatch the stopwatch
+     * @return the recorded latency in nanoseconds
+     */
+    public long record(StopWatch stopWatch) {
+        long elapsed = stopWatch.elapsedNanos();
+        record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the largest recorded latency, exactly.
+     *
+     * @return the largest latency in nanoseconds, or zero if the histogram is empty
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded latencies, computed from the bucket midpoints.
+     *
+     * @return the mean latency in nanoseconds, or zero if the histogram is empty
+     */
+    public double getMean() {
+        double sum = 0.0;
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                long low = lowestEquivalentValue(i);
+                sum += count * (low + (highestEquivalentValue(i) - low) / 2.0);
+                total += count;
+            }
+        }
+        return total == 0 ? 0.0 : sum / total;
+    }
+
+    /**
+     * Returns the latency at or below which the given percentage of the recorded latencies fall.
+     * The result is the highest value of the bucket the percentile falls into, capped by {@link #getMax()}.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the latency in nanoseconds, or zero if the histogram is empty
+     * @throws IllegalArgumentException if {@code percentile} is not in the range {@code [0, 100]}
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("The percentile must be in the range [0, 100]: " + percentile);
+        }
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0L;
+        int last = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                cumulative += count;
+                last = i;
+                if (cumulative >= target) {
+                    break;
+                }
+            }
+        }
+        if (last < 0) {
+            return 0L;
+        }
+        return Math.min(highestEquivalentValue(last), maxValue.get());
+    }
+
+    /**
+     * Adds the counts of another histogram into this one, e.g. to merge per-thread histograms.
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        long added = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+                added += count;
+            }
+        }
+        totalCount.addAndGet(added);
+        updateMax(other.maxValue.get());
+    }
+
+    /**
+     * Returns a copy of this histogram. The copy shares the time source but not the counts.
+     *
+     * @return a new histogram holding the counts recorded so far
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram(time);
+        snapshot.add(this);
+        return snapshot;
+    }
+
+    /**
+     * Moves the counts recorded since the previous interval snapshot (or since the creation or the last reset)
+     * into a new histogram. Latencies recorded concurrently end up either in the returned snapshot or in
+     * the next one.
+     * <p>
+     * The maximum of the snapshot is exact only if no latency is recorded concurrently.
+     *
+     * @return a new histogram holding the counts of the interval
+     */
+    public LatencyHistogram intervalSnapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram(time);
+        long moved = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) != 0) {
+                long count = counts.getAndSet(i, 0L);
+                snapshot.counts.set(i, count);
+                moved += count;
+            }
+        }
+        totalCount.addAndGet(-moved);
+        snapshot.totalCount.set(moved);
+        snapshot.maxValue.set(maxValue.getAndSet(0L));
+        return snapshot;
+    }
+
+    /**
+     * Clears all the recorded latencies.
+     */
+    public void reset() {
+        intervalSnapshot();
+    }
+
+    private void updateMax(long value) {
+        long current;
+        while (value > (current = maxValue.get())) {
+            if (maxValue.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - SUB_BUCKET_BITS) - Long.numberOfLeadingZeros(value);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return subBucket << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        return lowestEquivalentValue(index) + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A memoizing {@link Supplier} that caches the value of a loader for a time-to-live measured with
+ * {@link Time#nanoTime()}, and refreshes it ahead of its expiry.
+ * <p>
+ * Once a configurable fraction of the time-to-live has elapsed since the value was loaded, the first caller
+ * submits a refresh to the executor, and all the callers keep getting the current value without blocking until
+ * the refresh completes. At most one refresh is in flight at a time. If a refresh fails, the current value is kept
+ * and the next caller submits another one.
+ * <p>
+ * Callers only block when there is no value yet or it has fully expired, e.g. because it has not been requested
+ * for a while. The load is then performed by one of them while the others wait for its result.
+ *
+ * @param <T> the type of the value
+ */
+public class RefreshAheadSupplier<T> implements Supplier<T> {
+
+    /**
+     * The default fraction of the time-to-live after which the value is refreshed.
+     */
+    public static final double DEFAULT_REFRESH_AHEAD_FACTOR = 0.8;
+
+    private final Time time;
+    private final Supplier<? extends T> loader;
+    private final long timeToLiveNanos;
+    private final long refreshAfterNanos;
+    private final Executor executor;
+
+    private final AtomicReference<Loaded<T>> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+
+    /**
+     * Creates a supplier refreshing its value after {@value #DEFAULT_REFRESH_AHEAD_FACTOR} of the time-to-live.
+     *
+     * @param time       the time source
+     * @param loader     the loader of the value
+     * @param timeToLive the duration after which a value expires once loaded
+     * @param executor   the executor running the refreshes
+     * @throws IllegalArgumentException if {@code timeToLive} is not positive
+     */
+    public RefreshAheadSupplier(Time time, Supplier<? extends T> loader, Duration timeToLive, Executor executor) {
+        this(time, loader, timeToLive, DEFAULT_REFRESH_AHEAD_FACTOR, executor);
+    }
+
+    /**
+     * Creates a supplier.
+     *
+     * @param time               the time source
+     * @param loader             the loader of the value
+     * @param timeToLive         the duration after which a value expires once loaded
+     * @param refreshAheadFactor the fraction of the time-to-live after which the value is refreshed, in
+     *                           {@code (0, 1]}; {@code 1} disables refreshing ahead
+     * @param executor           the executor running the refreshes
+     * @throws IllegalArgumentException if {@code timeToLive} is not positive or {@code refreshAheadFactor} is not
+     *                                  in {@code (0, 1]}
+     */
+    public RefreshAheadSupplier(Time time, Supplier<? extends T> loader, Duration timeToLive,
+                                double refreshAheadFactor, Executor executor) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.loader = Objects.requireNonNull(loader, "loader must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        Objects.requireNonNull(timeToLive, "timeToLive must not be null");
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive: " + timeToLive);
+        }
+        if (!(refreshAheadFactor > 0.0 && refreshAheadFactor <= 1.0)) {
+            throw new IllegalArgumentException("refreshAheadFactor must be in (0, 1]: " + refreshAheadFactor);
+        }
+        long nanos;
+        try {
+            nanos = timeToLive.toNanos();
+        } catch (ArithmeticException e) {
+            nanos = Long.MAX_VALUE;
+        }
+        this.timeToLiveNanos = nanos;
+        this.refreshAfterNanos = (long) (nanos * refreshAheadFactor);
+    }
+
+    /**
+     * Returns the cached value, loading it if there is none or it has expired, and submitting a refresh if it is
+     * about to expire.
+     *
+     * @return the value
+     */
+    @Override
+    public T get() {
+        Loaded<T> loaded = current.get();
+        long now = time.nanoTime();
+        if (loaded != null && now - loaded.loadedAtNanos < timeToLiveNanos) {
+            if (now - loaded.loadedAtNanos >= refreshAfterNanos && refreshAfterNanos < timeToLiveNanos) {
+                refreshAsync();
+            }
+            return loaded.value;
+        }
+        synchronized (loadLock) {
+            loaded = current.get();
+            long startNanos = time.nanoTime();
+            if (loaded != null && startNanos - loaded.loadedAtNanos < timeToLiveNanos) {
+                return loaded.value;
+            }
+            return publish(loader.get(), startNanos).value;
+        }
+    }
+
+    /**
+     * Discards the cached value, so that the next call to {@link #get()} loads a new one.
+     */
+    public void invalidate() {
+        current.set(null);
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::refresh);
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void refresh() {
+        try {
+            long startNanos = time.nanoTime();
+            publish(loader.get(), startNanos);
+        } catch (RuntimeException e) {
+            // keeps the current value, the next caller submits another refresh
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Loaded<T> publish(T value, long loadedAtNanos) {
+        Loaded<T> loaded = new Loaded<>(value, loadedAtNanos);
+        return current.accumulateAndGet(loaded, (previous, next) ->
+                previous == null || next.loadedAtNanos - previous.loadedAtNanos >= 0 ? next : previous);
+    }
+
+    private static final class Loaded<T> {
+
+        final T value;
+        final long loadedAtNanos;
+
+        Loaded(T value, long loadedAtNanos) {
+            this.value = value;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
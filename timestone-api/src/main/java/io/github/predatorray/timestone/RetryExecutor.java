@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries asynchronous operations according to a {@link RetryPolicy}, waiting between the attempts as told by
+ * a {@link Backoff}.
+ * <p>
+ * The waits are scheduled through {@link Time#delay(long)} instead of sleeping, so no thread is blocked while an
+ * operation is waiting for its next attempt: with the system time, the retries of all operations share
+ * a single timer thread, and with a mutable time, they are run deterministically as the time is advanced.
+ * Each attempt after the first one is started by the thread completing the delay.
+ * <p>
+ * Cancelling the future returned by {@link #execute(Supplier)} prevents any further attempt.
+ */
+public class RetryExecutor {
+
+    private final Time time;
+    private final RetryPolicy policy;
+    private final Supplier<? extends Backoff> backoffFactory;
+
+    /**
+     * The maximum duration of the policy in nanoseconds, or {@code -1} if there is none.
+     */
+    private final long maxDurationNanos;
+
+    /**
+     * Creates a retry executor.
+     *
+     * @param time           the time source used to schedule the retries
+     * @param policy         the policy deciding whether a failure is retried
+     * @param backoffFactory the factory of the backoff, which is called once per {@linkplain #execute(Supplier)
+     *                       execution} because a backoff holds the state of a series of retries
+     */
+    public RetryExecutor(Time time, RetryPolicy policy, Supplier<? extends Backoff> backoffFactory) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+        this.backoffFactory = Objects.requireNonNull(backoffFactory, "backoffFactory must not be null");
+        this.maxDurationNanos = toNanos(policy.getMaxDuration());
+    }
+
+    /**
+     * Executes an asynchronous operation, retrying it on failure.
+     * <p>
+     * The returned future is completed with the result of the first successful attempt, or with the failure
+     * of the last attempt if it is not retryable, the attempts are exhausted, or the next retry would start after
+     * the maximum duration of the policy. An exception thrown by the supplier itself counts as a failed attempt.
+     *
+     * @param operation the supplier starting an attempt of the operation
+     * @param <T>       the type of the result
+     * @return a future completed with the outcome of the operation
+     */
+    public <T> CompletableFuture<T> execute(Supplier<? extends CompletableFuture<T>> operation) {
+        Objects.requireNonNull(operation, "operation must not be null");
+        Execution<T> execution = new Execution<>(operation, Objects.requireNonNull(backoffFactory.get()));
+        execution.attempt();
+        return execution.result;
+    }
+
+    private class Execution<T> {
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private final Supplier<? extends CompletableFuture<T>> operation;
+        private final Backoff backoff;
+        private final long startNanos;
+
+        private int attempts = 0;
+        private volatile CompletableFuture<Void> pendingDelay;
+
+        Execution(Supplier<? extends CompletableFuture<T>> operation, Backoff backoff) {
+            this.operation = operation;
+            this.backoff = backoff;
+            this.startNanos = time.nanoTime();
+            result.whenComplete((value, throwable) -> {
+                CompletableFuture<Void> delay = pendingDelay;
+                if (delay != null) {
+                    delay.cancel(false);
+                }
+            });
+        }
+
+        void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+            attempts++;
+            CompletableFuture<T> future;
+            try {
+                future = Objects.requireNonNull(operation.get(), "The operation returned a null future.");
+            } catch (Throwable t) {
+                onFailure(t);
+                return;
+            }
+            future.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    result.complete(value);
+                } else {
+                    onFailure(unwrap(throwable));
+                }
+            });
+        }
+
+        private void onFailure(Throwable failure) {
+            if (result.isDone()) {
+                return;
+            }
+            if (attempts >= policy.getMaxAttempts() || !policy.isRetryable(failure)) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            long delayMillis = backoff.nextDelayMillis();
+            if (maxDurationNanos >= 0) {
+                long elapsedNanos = time.nanoTime() - startNanos;
+                if (TimeUnit.MILLISECONDS.toNanos(delayMillis) > maxDurationNanos - elapsedNanos) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+            }
+            CompletableFuture<Void> delay = time.delay(delayMillis);
+            pendingDelay = delay;
+            if (result.isDone()) {
+                delay.cancel(false);
+                return;
+            }
+            delay.whenComplete((ignored, throwable) -> {
+                if (throwable == null) {
+                    attempt();
+                } else if (!delay.isCancelled()) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        if (duration == null) {
+            return -1L;
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable policy deciding whether a failed operation should be retried by a {@link RetryExecutor}.
+ * <p>
+ * An operation is retried as long as it has been attempted fewer than {@code maxAttempts} times,
+ * its failure is retryable, and the next attempt would start before the maximum duration has elapsed since
+ * the first attempt.
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Predicate<? super Throwable> retryable;
+    private final Duration maxDuration;
+
+    /**
+     * Creates a policy retrying any failure, without any maximum duration.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     */
+    public RetryPolicy(int maxAttempts) {
+        this(maxAttempts, throwable -> true);
+    }
+
+    /**
+     * Creates a policy without any maximum duration.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param retryable   the predicate telling whether a failure is retryable
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     */
+    public RetryPolicy(int maxAttempts, Predicate<? super Throwable> retryable) {
+        this(maxAttempts, retryable, null);
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param retryable   the predicate telling whether a failure is retryable
+     * @param maxDuration the maximum duration since the first attempt within which a retry can start,
+     *                    or {@code null} for no limit
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive or {@code maxDuration} is negative
+     */
+    public RetryPolicy(int maxAttempts, Predicate<? super Throwable> retryable, Duration maxDuration) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        if (maxDuration != null && maxDuration.isNegative()) {
+            throw new IllegalArgumentException("maxDuration must not be negative: " + maxDuration);
+        }
+        this.maxAttempts = maxAttempts;
+        this.retryable = Objects.requireNonNull(retryable, "retryable must not be null");
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Returns a predicate matching the failures that are instances of any of the given types.
+     *
+     * @param types the retryable exception types
+     * @return the predicate
+     */
+    @SafeVarargs
+    public static Predicate<Throwable> retryOn(Class<? extends Throwable>... types) {
+        List<Class<? extends Throwable>> copy = new ArrayList<>(types.length);
+        for (Class<? extends Throwable> type : types) {
+            copy.add(type);
+        }
+        return throwable -> {
+            for (Class<? extends Throwable> type : copy) {
+                if (type.isInstance(throwable)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the maximum number of attempts, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns whether the given failure is retryable.
+     *
+     * @param throwable the failure
+     * @return {@code true} if the operation can be retried after this failure
+     */
+    public boolean isRetryable(Throwable throwable) {
+        return retryable.test(throwable);
+    }
+
+    /**
+     * Returns the maximum duration since the first attempt within which a retry can start.
+     *
+     * @return the maximum duration, or {@code null} if there is no limit
+     */
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", maxDuration=" + maxDuration +
+                '}';
+    }
+}
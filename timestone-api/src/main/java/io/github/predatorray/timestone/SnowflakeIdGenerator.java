@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free generator of unique, strictly increasing 64-bit identifiers in the style of Twitter's Snowflake,
+ * made of a timestamp read from {@link Time#millis()}, a node identifier and a sequence number:
+ * <pre>
+ *   0 | timestamp (63 - nodeBits - sequenceBits bits) | node (nodeBits bits) | sequence (sequenceBits bits)
+ * </pre>
+ * The timestamp is the number of milliseconds since a custom epoch, so that identifiers sort by creation time.
+ * With zero node bits, the identifiers are unique monotonic timestamps.
+ * <p>
+ * The last generated timestamp and sequence are kept in a single {@link AtomicLong}, and each identifier is
+ * the greater of the current time and the last one plus one. When the sequence of a millisecond is exhausted,
+ * or when the clock moves backwards, the generator therefore borrows the following milliseconds instead of
+ * failing, and stays strictly increasing. If it gets ahead of the clock by more than a maximum drift, it waits
+ * for the clock to catch up through {@link Time#sleep(long)}.
+ * <p>
+ * {@link #nextIdBatched()} reserves identifiers for the current thread in blocks of {@value #BATCH_SIZE},
+ * so that threads generating at very high rates do not contend on the shared state.
+ */
+public class SnowflakeIdGenerator {
+
+    /**
+     * The default epoch, 2020-01-01T00:00:00Z, in milliseconds since the Unix epoch.
+     */
+    public static final long DEFAULT_EPOCH_MILLIS = 1577836800000L;
+
+    /**
+     * The default number of node bits, allowing 1024 nodes.
+     */
+    public static final int DEFAULT_NODE_BITS = 10;
+
+    /**
+     * The default number of sequence bits, allowing 4096 identifiers per millisecond and node.
+     */
+    public static final int DEFAULT_SEQUENCE_BITS = 12;
+
+    /**
+     * The default maximum number of milliseconds the generator may get ahead of the clock.
+     */
+    public static final long DEFAULT_MAX_DRIFT_MILLIS = 1000L;
+
+    /**
+     * The number of identifiers reserved at once by {@link #nextIdBatched()}.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    private final Time time;
+
+    private final long epochMillis;
+    private final int nodeBits;
+    private final int sequenceBits;
+    private final long nodeId;
+    private final long maxDriftMillis;
+
+    private final long maxTimestamp;
+    private final long sequenceMask;
+
+    /**
+     * The last reserved timestamp and sequence, without the node bits.
+     */
+    private final AtomicLong last = new AtomicLong(-1L);
+
+    /**
+     * The next and last identifiers, without the node bits, of the batch reserved by the current thread.
+     */
+    private final ThreadLocal<long[]> batches = ThreadLocal.withInitial(() -> new long[]{0L, -1L});
+
+    /**
+     * Creates a generator with the default epoch and layout.
+     *
+     * @param time   the time source
+     * @param nodeId the identifier of the node, which must be unique among the generators
+     * @throws IllegalArgumentException if {@code nodeId} does not fit in {@value #DEFAULT_NODE_BITS} bits
+     */
+    public SnowflakeIdGenerator(Time time, long nodeId) {
+        this(time, DEFAULT_EPOCH_MILLIS, DEFAULT_NODE_BITS, DEFAULT_SEQUENCE_BITS, nodeId, DEFAULT_MAX_DRIFT_MILLIS);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param time           the time source
+     * @param epochMillis    the epoch of the timestamps, in milliseconds since the Unix epoch
+     * @param nodeBits       the number of bits of the node identifier
+     * @param sequenceBits   the number of bits of the sequence number
+     * @param nodeId         the identifier of the node, which must be unique among the generators
+     * @param maxDriftMillis the maximum number of milliseconds the generator may get ahead of the clock before
+     *                       waiting for it
+     * @throws IllegalArgumentException if the numbers of bits are negative or leave fewer than 32 bits for
+     *                                  the timestamp, if {@code nodeId} does not fit in {@code nodeBits} bits,
+     *                                  or if {@code maxDriftMillis} is negative
+     */
+    public SnowflakeIdGenerator(Time time, long epochMillis, int nodeBits, int sequenceBits, long nodeId,
+                                long maxDriftMillis) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        if (nodeBits < 0 || sequenceBits < 0 || nodeBits + sequenceBits > Long.SIZE - 1 - Integer.SIZE) {
+            throw new IllegalArgumentException("Invalid numbers of bits: nodeBits=" + nodeBits +
+                    ", sequenceBits=" + sequenceBits);
+        }
+        if (nodeId < 0 || nodeId >= 1L << nodeBits) {
+            throw new IllegalArgumentException("nodeId must fit in " + nodeBits + " bits: " + nodeId);
+        }
+        if (maxDriftMillis < 0) {
+            throw new IllegalArgumentException("maxDriftMillis must not be negative: " + maxDriftMillis);
+        }
+        this.epochMillis = epochMillis;
+        this.nodeBits = nodeBits;
+        this.sequenceBits = sequenceBits;
+        this.nodeId = nodeId;
+        this.maxDriftMillis = maxDriftMillis;
+        this.maxTimestamp = (1L << (Long.SIZE - 1 - nodeBits - sequenceBits)) - 1;
+        this.sequenceMask = (1L << sequenceBits) - 1;
+    }
+
+    /**
+     * Generates an identifier greater than all the identifiers previously generated by this method and
+     * {@link #nextIds(long[])}.
+     *
+     * @return the identifier
+     * @throws IllegalStateException if the timestamp no longer fits in its bits, or if the thread is interrupted
+     *                               while waiting for the clock to catch up
+     */
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    /**
+     * Fills the array with consecutive identifiers, reserved with a single atomic update.
+     *
+     * @param ids the array to fill
+     * @throws IllegalStateException if the timestamp no longer fits in its bits, or if the thread is interrupted
+     *                               while waiting for the clock to catch up
+     */
+    public void nextIds(long[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        long first = reserve(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = toId(first + i);
+        }
+    }
+
+    /**
+     * Generates an identifier from a block reserved for the current thread, reserving a new block of
+     * {@value #BATCH_SIZE} identifiers when it is exhausted.
+     * <p>
+     * The identifiers are unique and strictly increasing per thread, but not across threads, and their timestamps
+     * are the ones of the reservation of the block.
+     *
+     * @return the identifier
+     * @throws IllegalStateException if the timestamp no longer fits in its bits, or if the thread is interrupted
+     *                               while waiting for the clock to catch up
+     */
+    public long nextIdBatched() {
+        long[] batch = batches.get();
+        if (batch[0] > batch[1]) {
+            batch[0] = reserve(BATCH_SIZE);
+            batch[1] = batch[0] + BATCH_SIZE - 1;
+        }
+        return toId(batch[0]++);
+    }
+
+    /**
+     * Returns the time at which the identifier was generated.
+     *
+     * @param id an identifier generated by this generator
+     * @return the timestamp in milliseconds since the Unix epoch
+     */
+    public long timestampMillisOf(long id) {
+        return (id >>> (nodeBits + sequenceBits)) + epochMillis;
+    }
+
+    /**
+     * Returns the node identifier of the identifier.
+     *
+     * @param id an identifier generated by this generator
+     * @return the node identifier
+     */
+    public long nodeIdOf(long id) {
+        return (id >>> sequenceBits) & ((1L << nodeBits) - 1);
+    }
+
+    /**
+     * Returns the sequence number of the identifier.
+     *
+     * @param id an identifier generated by this generator
+     * @return the sequence number within its millisecond
+     */
+    public long sequenceOf(long id) {
+        return id & sequenceMask;
+    }
+
+    private long reserve(int count) {
+        while (true) {
+            long current = last.get();
+            long nowMillis = Math.max(0L, time.millis() - epochMillis);
+            long first = Math.max(current + 1, nowMillis << sequenceBits);
+            long end = first + count - 1;
+            long endMillis = end >>> sequenceBits;
+            if (endMillis > maxTimestamp) {
+                throw new IllegalStateException("The timestamp no longer fits in " +
+                        (Long.SIZE - 1 - nodeBits - sequenceBits) + " bits.");
+            }
+            long aheadMillis = (first >>> sequenceBits) - nowMillis;
+            if (aheadMillis > maxDriftMillis) {
+                waitForClock(aheadMillis - maxDriftMillis);
+                continue;
+            }
+            if (last.compareAndSet(current, end)) {
+                return first;
+            }
+        }
+    }
+
+    private void waitForClock(long millis) {
+        try {
+            time.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the clock to catch up.", e);
+        }
+    }
+
+    private long toId(long timestampAndSequence) {
+        long timestamp = timestampAndSequence >>> sequenceBits;
+        return (timestamp << (nodeBits + sequenceBits)) | (nodeId << sequenceBits) |
+                (timestampAndSequence & sequenceMask);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread-safe stopwatch measuring elapsed time in nanoseconds through {@link Time#nanoTime()}.
+ * <p>
+ * The stopwatch only keeps primitive fields, so starting, stopping, reading and resetting it never allocates.
+ * Like Guava's {@code Stopwatch}, the elapsed time accumulates across successive start and stop cycles
+ * until the stopwatch is {@linkplain #reset() reset}, and it can be read while the stopwatch is still running.
+ * <p>
+ * Besides the total elapsed time, the stopwatch supports:
+ * <ul>
+ *     <li>splits: {@link #split()} records the elapsed time at a point without affecting the stopwatch,</li>
+ *     <li>laps: {@link #lap()} returns the time elapsed since the previous lap and starts a new one.</li>
+ * </ul>
+ */
+public class StopWatch {
+
+    private final Time time;
+
+    private boolean running = false;
+    private long startTick;
+    private long accumulatedNanos = 0;
+    private long lapStartNanos = 0;
+    private long splitNanos = 0;
+
+    /**
+     * Creates a stopwatch that is not running.
+     *
+     * @param time the time source
+     */
+    public StopWatch(Time time) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+    }
+
+    /**
+     * Creates a stopwatch and starts it.
+     *
+     * @param time the time source
+     * @return a running stopwatch
+     */
+    public static StopWatch createStarted(Time time) {
+        StopWatch stopWatch = new StopWatch(time);
+        stopWatch.start();
+        return stopWatch;
+    }
+
+    /**
+     * Starts the stopwatch.
+     *
+     * @throws IllegalStateException if the stopwatch is already running
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Stopwatch is already running.");
+        }
+        running = true;
+        startTick = time.nanoTime();
+    }
+
+    /**
+     * Stops the stopwatch. The elapsed time is kept and future reads return the same value until it is restarted.
+     *
+     * @throws IllegalStateException if the stopwatch is not running
+     */
+    public synchronized void stop() {
+        if (!running) {
+            throw new IllegalStateException("Stopwatch is not running.");
+        }
+        accumulatedNanos += time.nanoTime() - startTick;
+        running = false;
+    }
+
+    /**
+     * Stops the stopwatch if it is running, and clears the elapsed time, the split and the laps.
+     */
+    public synchronized void reset() {
+        running = false;
+        accumulatedNanos = 0;
+        lapStartNanos = 0;
+        splitNanos = 0;
+    }
+
+    /**
+     * Returns whether the stopwatch is running.
+     *
+     * @return {@code true} if the stopwatch has been started and not stopped since
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the total elapsed time, including the current run if the stopwatch is running.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public synchronized long elapsedNanos() {
+        return running ? accumulatedNanos + time.nanoTime() - startTick : accumulatedNanos;
+    }
+
+    /**
+     * Returns the total elapsed time in the given unit, truncated.
+     *
+     * @param unit the unit of the result
+     * @return the elapsed time in the given unit
+     */
+    public long elapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the current elapsed time as the split time, without stopping the stopwatch or starting a new lap.
+     *
+     * @return the split time, i.e. the elapsed time in nanoseconds
+     */
+    public synchronized long split() {
+        splitNanos = elapsedNanos();
+        return splitNanos;
+    }
+
+    /**
+     * Returns the split time recorded by the last call to {@link #split()}.
+     *
+     * @return the split time in nanoseconds, or zero if no split has been recorded since the last reset
+     */
+    public synchronized long getSplitNanos() {
+        return splitNanos;
+    }
+
+    /**
+     * Ends the current lap and starts a new one.
+     *
+     * @return the time elapsed during the lap that has just ended, in nanoseconds
+     */
+    public synchronized long lap() {
+        long elapsed = elapsedNanos();
+        long lapNanos = elapsed - lapStartNanos;
+        lapStartNanos = elapsed;
+        return lapNanos;
+    }
+
+    /**
+     * Returns the time elapsed during the current lap, without ending it.
+     *
+     * @return the elapsed time of the current lap in nanoseconds
+     */
+    public synchronized long currentLapNanos() {
+        return elapsedNanos() - lapStartNanos;
+    }
+}
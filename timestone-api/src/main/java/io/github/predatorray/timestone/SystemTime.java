@@ -27,16 +27,35 @@ package io.github.predatorray.timestone;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * A {@link Time} implementation that uses the system clock.
  * <p>
  * Provides the current instant and allows sleeping for a specified duration.
+ * Besides the millisecond {@link #sleep(long)}, {@link #sleepNanos(long)} offers a high-precision sleep that parks
+ * the thread for most of the duration and then spins for the last stretch, whose length is configurable.
  */
 public class SystemTime extends ClockTime {
 
+    /**
+     * The default length of the final stretch of {@link #sleepNanos(long)} during which the thread spins
+     * instead of being parked, in nanoseconds.
+     */
+    public static final long DEFAULT_SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
     private final ZoneId zoneId;
 
+    private final long spinThresholdNanos;
+
+    /**
+     * The instances derived by {@link #withZone(ZoneId)}, shared by all of them.
+     */
+    private final ConcurrentHashMap<ZoneId, SystemTime> zoneCache;
+
     /**
      * Constructs a {@code SystemTime} using the system default time zone.
      */
@@ -50,7 +69,31 @@ public class SystemTime extends ClockTime {
      * @param zoneId the time zone to use, must not be null
      */
     public SystemTime(ZoneId zoneId) {
+        this(zoneId, DEFAULT_SPIN_THRESHOLD_NANOS);
+    }
+
+    /**
+     * Constructs a {@code SystemTime} with the specified time zone and spin threshold.
+     *
+     * @param zoneId             the time zone to use, must not be null
+     * @param spinThresholdNanos the length of the final stretch of {@link #sleepNanos(long)} during which the thread
+     *                           spins instead of being parked, in nanoseconds; zero disables spinning
+     * @throws IllegalArgumentException if {@code spinThresholdNanos} is negative
+     */
+    public SystemTime(ZoneId zoneId, long spinThresholdNanos) {
+        if (spinThresholdNanos < 0) {
+            throw new IllegalArgumentException("spinThresholdNanos must not be negative");
+        }
         this.zoneId = Objects.requireNonNull(zoneId, "zoneId must not be null");
+        this.spinThresholdNanos = spinThresholdNanos;
+        this.zoneCache = new ConcurrentHashMap<>();
+        this.zoneCache.put(zoneId, this);
+    }
+
+    private SystemTime(ZoneId zoneId, long spinThresholdNanos, ConcurrentHashMap<ZoneId, SystemTime> zoneCache) {
+        this.zoneId = zoneId;
+        this.spinThresholdNanos = spinThresholdNanos;
+        this.zoneCache = zoneCache;
     }
 
     /**
@@ -65,13 +108,29 @@ public class SystemTime extends ClockTime {
 
     /**
      * Returns a copy of this {@code SystemTime} with a different time zone.
+     * <p>
+     * The copies are cached per zone and shared with this instance and all its copies, so that repeated calls
+     * return the same instance, which also keeps the zone offset cached for the local-time accessors.
      *
      * @param zone the time zone to change to, not null
      * @return a {@code SystemTime} with the specified time zone
      */
     @Override
     public SystemTime withZone(ZoneId zone) {
-        return new SystemTime(zone);
+        Objects.requireNonNull(zone, "zone must not be null");
+        if (zone.equals(zoneId)) {
+            return this;
+        }
+        return zoneCache.computeIfAbsent(zone, z -> new SystemTime(z, spinThresholdNanos, zoneCache));
+    }
+
+    /**
+     * Gets the length of the final stretch of {@link #sleepNanos(long)} during which the thread spins.
+     *
+     * @return the spin threshold in nanoseconds
+     */
+    public long getSpinThresholdNanos() {
+        return spinThresholdNanos;
     }
 
     /**
@@ -84,6 +143,50 @@ public class SystemTime extends ClockTime {
         return Instant.now();
     }
 
+    /**
+     * Gets the current time in milliseconds from the system clock without allocating an {@link Instant}.
+     *
+     * @return the current epoch milliseconds
+     */
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the current time in microseconds from the system clock without allocating an {@link Instant}.
+     * <p>
+     * The resolution is that of {@link System#currentTimeMillis()}.
+     *
+     * @return the current epoch microseconds
+     */
+    @Override
+    public long epochMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the current time in nanoseconds from the system clock without allocating an {@link Instant}.
+     * <p>
+     * The resolution is that of {@link System#currentTimeMillis()}.
+     *
+     * @return the current epoch nanoseconds
+     */
+    @Override
+    public long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the current value of the running JVM's high-resolution time source.
+     *
+     * @return the result of {@link System#nanoTime()}
+     */
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
     /**
      * Causes the current thread to sleep for the specified number of milliseconds.
      *
@@ -95,17 +198,65 @@ public class SystemTime extends ClockTime {
         Thread.sleep(millis);
     }
 
+    /**
+     * Causes the current thread to sleep for the specified number of nanoseconds with high precision.
+     * <p>
+     * The thread is parked until the remaining time drops to the {@linkplain #getSpinThresholdNanos() spin threshold},
+     * and then yields in a loop against {@link System#nanoTime()} until the deadline is reached.
+     * This avoids most of the oversleep of {@link Thread#sleep(long)} at the cost of keeping a CPU busy
+     * for up to the spin threshold.
+     *
+     * @param nanos the length of time to sleep in nanoseconds
+     * @throws InterruptedException if any thread has interrupted the current thread
+     */
+    @Override
+    public void sleepNanos(long nanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > spinThresholdNanos) {
+            LockSupport.parkNanos(this, remaining - spinThresholdNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        while (remaining > 0) {
+            Thread.yield();
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns a future that completes after the specified number of milliseconds.
+     * <p>
+     * The delays of all the {@code SystemTime} instances are served by a single {@link HashedWheelTimer}
+     * shared by the JVM, rather than by a thread per delay.
+     *
+     * @param millis the length of the delay in milliseconds; a delay that is not positive completes immediately
+     * @return a future that completes after the delay
+     */
+    @Override
+    public CompletableFuture<Void> delay(long millis) {
+        return SharedTimer.delay(millis);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
         SystemTime that = (SystemTime) o;
-        return Objects.equals(zoneId, that.zoneId);
+        return spinThresholdNanos == that.spinThresholdNanos && Objects.equals(zoneId, that.zoneId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(zoneId);
+        return Objects.hash(zoneId, spinThresholdNanos);
     }
 }
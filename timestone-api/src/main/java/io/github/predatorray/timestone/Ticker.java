@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A fixed-rate ticker whose ticks do not drift: the deadline of the {@code n}-th tick is the start time plus
+ * {@code n} periods, measured with {@link Time#nanoTime()}, rather than one period after the previous tick ran.
+ * The first tick is due one period after the start.
+ * <p>
+ * When ticks are missed, because a handler ran for longer than a period or the thread was not scheduled,
+ * the {@link CatchUpPolicy} decides how the ticker catches up. In every case, the following deadlines stay on
+ * the original grid.
+ * <p>
+ * A ticker is driven either by the calling thread with {@link #run(TickHandler)}, which waits through
+ * {@link Time#sleepNanos(long)}, or asynchronously with {@link #start(TickHandler)}, which waits through
+ * {@link Time#delay(long)}. With a mutable time, both are exactly reproducible.
+ * A ticker can be run only once, and runs until it is {@linkplain #stop() stopped}.
+ */
+public class Ticker {
+
+    /**
+     * What a ticker does with the ticks it missed.
+     */
+    public enum CatchUpPolicy {
+
+        /**
+         * Runs the handler once for every missed tick, back to back.
+         */
+        BURST,
+
+        /**
+         * Drops the missed ticks, and runs the handler once for the latest due tick.
+         */
+        SKIP,
+
+        /**
+         * Runs the handler once for the latest due tick, telling it how many ticks it stands for.
+         */
+        COALESCE
+    }
+
+    /**
+     * The callback of a ticker.
+     */
+    @FunctionalInterface
+    public interface TickHandler {
+
+        /**
+         * Handles a tick.
+         *
+         * @param tick  the number of the tick, whose deadline is the start time plus {@code tick} periods
+         * @param count the number of ticks handled by this call, which is greater than one only for the missed
+         *              ticks coalesced by the {@link CatchUpPolicy#COALESCE} policy
+         */
+        void onTick(long tick, long count);
+    }
+
+    private final Time time;
+    private final long periodNanos;
+    private final CatchUpPolicy catchUpPolicy;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean stopped = false;
+    private volatile CompletableFuture<Void> completion;
+    private volatile CompletableFuture<Void> pendingDelay;
+
+    private long startNanos;
+    private long nextTick = 1;
+
+    /**
+     * Creates a ticker.
+     *
+     * @param time          the time source
+     * @param period        the period between two ticks
+     * @param catchUpPolicy what to do with the missed ticks
+     * @throws IllegalArgumentException if {@code period} is not positive
+     */
+    public Ticker(Time time, Duration period, CatchUpPolicy catchUpPolicy) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.catchUpPolicy = Objects.requireNonNull(catchUpPolicy, "catchUpPolicy must not be null");
+        Objects.requireNonNull(period, "period must not be null");
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.periodNanos = period.toNanos();
+    }
+
+    /**
+     * Runs the ticker on the calling thread until it is stopped, the handler throws an exception,
+     * or the thread is interrupted. A call to {@link #stop()} takes effect after the current wait or handler.
+     *
+     * @param handler the callback of the ticks
+     * @throws InterruptedException  if the thread is interrupted while waiting for a tick
+     * @throws IllegalStateException if the ticker has already been run
+     */
+    public void run(TickHandler handler) throws InterruptedException {
+        Objects.requireNonNull(handler, "handler must not be null");
+        begin();
+        while (!stopped) {
+            long waitNanos = deadline(nextTick) - time.nanoTime();
+            if (waitNanos > 0) {
+                time.sleepNanos(waitNanos);
+                continue;
+            }
+            fireDueTicks(handler);
+        }
+    }
+
+    /**
+     * Runs the ticker asynchronously until it is stopped. The handler is called by the threads completing the
+     * {@linkplain Time#delay(long) delays} of the time source, one tick at a time.
+     *
+     * @param handler the callback of the ticks
+     * @return a future completed when the ticker is stopped, or exceptionally if the handler throws an exception;
+     * cancelling it stops the ticker
+     * @throws IllegalStateException if the ticker has already been run
+     */
+    public CompletableFuture<Void> start(TickHandler handler) {
+        Objects.requireNonNull(handler, "handler must not be null");
+        begin();
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        completion.whenComplete((ignored, throwable) -> {
+            stopped = true;
+            CompletableFuture<Void> delay = pendingDelay;
+            if (delay != null) {
+                delay.cancel(false);
+            }
+        });
+        this.completion = completion;
+        scheduleNext(handler, completion);
+        return completion;
+    }
+
+    /**
+     * Stops the ticker. No tick is handled after the current one, if any.
+     * If the ticker was {@linkplain #start(TickHandler) started asynchronously}, its future is completed.
+     */
+    public void stop() {
+        stopped = true;
+        CompletableFuture<Void> completion = this.completion;
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Returns whether the ticker has been stopped.
+     *
+     * @return {@code true} if the ticker has been stopped
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    private void begin() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The ticker has already been run.");
+        }
+        startNanos = time.nanoTime();
+    }
+
+    private void scheduleNext(TickHandler handler, CompletableFuture<Void> completion) {
+        while (true) {
+            if (stopped) {
+                completion.complete(null);
+                return;
+            }
+            long waitNanos = deadline(nextTick) - time.nanoTime();
+            if (waitNanos > 0) {
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+                if (TimeUnit.MILLISECONDS.toNanos(waitMillis) < waitNanos) {
+                    waitMillis++;
+                }
+                CompletableFuture<Void> delay = time.delay(waitMillis);
+                pendingDelay = delay;
+                if (completion.isDone()) {
+                    delay.cancel(false);
+                    return;
+                }
+                delay.thenRun(() -> scheduleNext(handler, completion));
+                return;
+            }
+            try {
+                fireDueTicks(handler);
+            } catch (Throwable t) {
+                completion.completeExceptionally(t);
+                return;
+            }
+        }
+    }
+
+    private void fireDueTicks(TickHandler handler) {
+        long dueTick = (time.nanoTime() - startNanos) / periodNanos;
+        switch (catchUpPolicy) {
+            case BURST:
+                handler.onTick(nextTick, 1);
+                nextTick++;
+                break;
+            case SKIP:
+                handler.onTick(dueTick, 1);
+                nextTick = dueTick + 1;
+                break;
+            case COALESCE:
+                handler.onTick(dueTick, dueTick - nextTick + 1);
+                nextTick = dueTick + 1;
+                break;
+            default:
+                throw new AssertionError(catchUpPolicy);
+        }
+    }
+
+    private long deadline(long tick) {
+        return startNanos + tick * periodNanos;
+    }
+}
@@ -26,6 +26,10 @@ package io.github.predatorray.timestone;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a source of time, providing access to the current instant and time zone.
@@ -61,6 +65,50 @@ public interface Time {
         return this.instant().toEpochMilli();
     }
 
+    /**
+     * Returns the current time in microseconds since the epoch.
+     * <p>
+     * Implementations are encouraged to override this method so that no {@link Instant} is allocated.
+     *
+     * @return the current epoch microseconds
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    default long epochMicros() {
+        Instant now = this.instant();
+        return Math.addExact(
+                Math.multiplyExact(now.getEpochSecond(), TimeUnit.SECONDS.toMicros(1)),
+                TimeUnit.NANOSECONDS.toMicros(now.getNano()));
+    }
+
+    /**
+     * Returns the current time in nanoseconds since the epoch.
+     * <p>
+     * Implementations are encouraged to override this method so that no {@link Instant} is allocated.
+     *
+     * @return the current epoch nanoseconds
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    default long epochNanos() {
+        Instant now = this.instant();
+        return Math.addExact(
+                Math.multiplyExact(now.getEpochSecond(), TimeUnit.SECONDS.toNanos(1)),
+                now.getNano());
+    }
+
+    /**
+     * Returns the current value of a high-resolution time source, in nanoseconds.
+     * <p>
+     * Like {@link System#nanoTime()}, the value is only meaningful when compared with another value
+     * returned by the same time source, e.g. for measuring elapsed time.
+     * The default implementation falls back to {@link #epochNanos()},
+     * which is not guaranteed to be monotonic.
+     *
+     * @return the current value of the time source, in nanoseconds
+     */
+    default long nanoTime() {
+        return this.epochNanos();
+    }
+
     /**
      * Returns the current instant from this time source.
      *
@@ -75,4 +123,55 @@ public interface Time {
      * @throws InterruptedException if the sleep is interrupted
      */
     void sleep(long millis) throws InterruptedException;
+
+    /**
+     * Suspends execution for the specified number of nanoseconds.
+     * <p>
+     * The default implementation rounds the duration up to whole milliseconds and calls {@link #sleep(long)}.
+     * Implementations may provide a higher precision.
+     *
+     * @param nanos the length of time to sleep in nanoseconds
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    default void sleepNanos(long nanos) throws InterruptedException {
+        long nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        this.sleep(nanos <= 0 ? 0 : (nanos - 1) / nanosPerMilli + 1);
+    }
+
+    /**
+     * Returns a future that completes after the specified number of milliseconds, without blocking any thread.
+     * <p>
+     * This is the asynchronous counterpart of {@link #sleep(long)}.
+     * The future is completed by a timer thread, so dependent stages that are not asynchronous run on that thread
+     * and should not block. Cancelling the future cancels the underlying timeout.
+     * <p>
+     * The default implementation measures the delay in real time with a timer shared by the JVM.
+     * Implementations whose time does not follow the system clock should override this method.
+     *
+     * @param millis the length of the delay in milliseconds; a delay that is not positive completes immediately
+     * @return a future that completes after the delay
+     */
+    default CompletableFuture<Void> delay(long millis) {
+        return SharedTimer.delay(millis);
+    }
+
+    /**
+     * Blocks until the given future completes, which is how a timed wait blocks on this time source.
+     * <p>
+     * A timed wait completes the future either when it is signalled or when a {@linkplain #delay(long) delay}
+     * measuring its timeout completes, and calls this method instead of blocking on its own, so that a time source
+     * can account for the waiting thread, e.g. a simulated time advancing once all the threads taking part are
+     * sleeping or waiting. The default implementation simply waits for the future.
+     *
+     * @param future the future whose completion, normal or not, ends the wait
+     * @throws InterruptedException if the current thread is interrupted before or while waiting,
+     *                              in which case the future may still be incomplete
+     */
+    default void await(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException | CancellationException ignored) {
+            // Completed exceptionally, which also ends the wait
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics collected by an {@link InstrumentedTime} for a tag. The counters are striped
+ * {@link LongAdder}s, so that recording from many threads does not contend.
+ */
+public class TimeMetrics implements TimeMetricsMXBean {
+
+    private final String tag;
+
+    private final LongAdder millisCalls = new LongAdder();
+    private final LongAdder instantCalls = new LongAdder();
+    private final LongAdder nanoTimeCalls = new LongAdder();
+    private final LongAdder sleepCalls = new LongAdder();
+    private final LongAdder delayCalls = new LongAdder();
+    private final LongAdder requestedSleepNanos = new LongAdder();
+    private final LongAdder actualSleepNanos = new LongAdder();
+    private final LongAdder oversleepNanos = new LongAdder();
+    private final LongAccumulator maxOversleepNanos = new LongAccumulator(Math::max, 0L);
+
+    TimeMetrics(String tag) {
+        this.tag = Objects.requireNonNull(tag, "tag must not be null");
+    }
+
+    void recordMillis() {
+        millisCalls.increment();
+    }
+
+    void recordInstant() {
+        instantCalls.increment();
+    }
+
+    void recordNanoTime() {
+        nanoTimeCalls.increment();
+    }
+
+    void recordSleep(long requestedNanos, long actualNanos) {
+        sleepCalls.increment();
+        recordWait(requestedNanos, actualNanos);
+    }
+
+    void recordDelay(long requestedNanos, long actualNanos) {
+        delayCalls.increment();
+        recordWait(requestedNanos, actualNanos);
+    }
+
+    private void recordWait(long requestedNanos, long actualNanos) {
+        requestedSleepNanos.add(requestedNanos);
+        actualSleepNanos.add(actualNanos);
+        long oversleep = actualNanos - requestedNanos;
+        if (oversleep > 0) {
+            oversleepNanos.add(oversleep);
+            maxOversleepNanos.accumulate(oversleep);
+        }
+    }
+
+    @Override
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public long getMillisCalls() {
+        return millisCalls.sum();
+    }
+
+    @Override
+    public long getInstantCalls() {
+        return instantCalls.sum();
+    }
+
+    @Override
+    public long getNanoTimeCalls() {
+        return nanoTimeCalls.sum();
+    }
+
+    @Override
+    public long getSleepCalls() {
+        return sleepCalls.sum();
+    }
+
+    @Override
+    public long getDelayCalls() {
+        return delayCalls.sum();
+    }
+
+    @Override
+    public long getRequestedSleepNanos() {
+        return requestedSleepNanos.sum();
+    }
+
+    @Override
+    public long getActualSleepNanos() {
+        return actualSleepNanos.sum();
+    }
+
+    @Override
+    public long getOversleepNanos() {
+        return oversleepNanos.sum();
+    }
+
+    @Override
+    public long getMaxOversleepNanos() {
+        return maxOversleepNanos.get();
+    }
+
+    @Override
+    public void reset() {
+        millisCalls.reset();
+        instantCalls.reset();
+        nanoTimeCalls.reset();
+        sleepCalls.reset();
+        delayCalls.reset();
+        requestedSleepNanos.reset();
+        actualSleepNanos.reset();
+        oversleepNanos.reset();
+        maxOversleepNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "TimeMetrics{" +
+                "tag='" + tag + '\'' +
+                ", millisCalls=" + getMillisCalls() +
+                ", instantCalls=" + getInstantCalls() +
+                ", nanoTimeCalls=" + getNanoTimeCalls() +
+                ", sleepCalls=" + getSleepCalls() +
+                ", delayCalls=" + getDelayCalls() +
+                ", oversleepNanos=" + getOversleepNanos() +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+/**
+ * The management interface of the {@link TimeMetrics} collected by an {@link InstrumentedTime} for a tag.
+ */
+public interface TimeMetricsMXBean {
+
+    /**
+     * Returns the tag the metrics are collected for.
+     *
+     * @return the tag
+     */
+    String getTag();
+
+    /**
+     * Returns the number of calls to {@link Time#millis()}.
+     *
+     * @return the number of calls
+     */
+    long getMillisCalls();
+
+    /**
+     * Returns the number of calls to {@link Time#instant()}, {@link Time#epochMicros()} and
+     * {@link Time#epochNanos()}.
+     *
+     * @return the number of calls
+     */
+    long getInstantCalls();
+
+    /**
+     * Returns the number of calls to {@link Time#nanoTime()}.
+     *
+     * @return the number of calls
+     */
+    long getNanoTimeCalls();
+
+    /**
+     * Returns the number of completed calls to {@link Time#sleep(long)} and {@link Time#sleepNanos(long)}.
+     *
+     * @return the number of sleeps
+     */
+    long getSleepCalls();
+
+    /**
+     * Returns the number of completed {@linkplain Time#delay(long) delays}.
+     *
+     * @return the number of delays
+     */
+    long getDelayCalls();
+
+    /**
+     * Returns the total duration the completed sleeps and delays asked for.
+     *
+     * @return the requested duration in nanoseconds
+     */
+    long getRequestedSleepNanos();
+
+    /**
+     * Returns the total duration the completed sleeps and delays actually lasted.
+     *
+     * @return the actual duration in nanoseconds
+     */
+    long getActualSleepNanos();
+
+    /**
+     * Returns the total duration by which the completed sleeps and delays exceeded the requested durations.
+     *
+     * @return the oversleep in nanoseconds
+     */
+    long getOversleepNanos();
+
+    /**
+     * Returns the largest duration by which a completed sleep or delay exceeded the requested duration.
+     *
+     * @return the maximum oversleep in nanoseconds
+     */
+    long getMaxOversleepNanos();
+
+    /**
+     * Resets all the metrics to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link Condition} of a {@link ReentrantLock} whose timed waits are measured with a {@link Time} instead of
+ * {@link System#nanoTime()}.
+ * <p>
+ * A timed wait schedules a {@linkplain Time#delay(long) delay} and blocks the thread through
+ * {@link Time#await(CompletableFuture)} until it is signalled or the delay completes, so that with a mutable time
+ * the wait times out exactly when the time is advanced past its deadline, and with the system time it behaves like
+ * an ordinary timed wait. Since the wait blocks on the {@code Time}, a mutable time driven as a discrete-event
+ * simulation counts a waiting thread as sleeping, and jumps to its deadline once all the registered parties sleep.
+ * The completion of a delay only wakes up the waiter it belongs to and never acquires the lock, so the thread
+ * advancing the time may hold any lock, including the lock of this condition. Conversely, a thread holding the lock
+ * may advance the time. Like the conditions of {@code ReentrantLock}, a waiter that times out or is interrupted does
+ * not consume a signal, and waiters are signalled in the order in which they started waiting.
+ */
+public class TimedCondition implements Condition {
+
+    private final Time time;
+    private final ReentrantLock lock;
+
+    // Guarded by the lock
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+
+    /**
+     * Creates a condition of the given lock.
+     *
+     * @param time the time source measuring the timeouts
+     * @param lock the lock that must be held to wait for and signal the condition
+     */
+    public TimedCondition(Time time, ReentrantLock lock) {
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.lock = Objects.requireNonNull(lock, "lock must not be null");
+    }
+
+    @Override
+    public void await() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (await(null, true) == Waiter.INTERRUPTED) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public void awaitUninterruptibly() {
+        await(null, false);
+    }
+
+    @Override
+    public long awaitNanos(long nanosTimeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        checkHeldByCurrentThread();
+        if (nanosTimeout <= 0) {
+            return nanosTimeout;
+        }
+        long start = time.nanoTime();
+        CompletableFuture<Void> timer = time.delay(ceilMillis(nanosTimeout));
+        try {
+            if (await(timer, true) == Waiter.INTERRUPTED) {
+                throw new InterruptedException();
+            }
+        } finally {
+            timer.cancel(false);
+        }
+        return nanosTimeout - (time.nanoTime() - start);
+    }
+
+    @Override
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitNanos(unit.toNanos(timeout)) > 0;
+    }
+
+    /**
+     * Waits until signalled, interrupted, or the deadline is reached according to {@link Time#millis()}.
+     */
+    @Override
+    public boolean awaitUntil(Date deadline) throws InterruptedException {
+        long remainingMillis = deadline.getTime() - time.millis();
+        awaitNanos(TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        return time.millis() < deadline.getTime();
+    }
+
+    @Override
+    public void signal() {
+        checkHeldByCurrentThread();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.wakeUp(Waiter.SIGNALLED)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        checkHeldByCurrentThread();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.wakeUp(Waiter.SIGNALLED);
+        }
+    }
+
+    /**
+     * Releases the lock, blocks on the time until signalled, the timer completes or, if interruptible, the thread
+     * is interrupted, and reacquires the lock.
+     *
+     * @return the state in which the wait ended, which is {@code INTERRUPTED} only if interruptible;
+     * an interrupt not reported by the state is restored
+     */
+    private int await(CompletableFuture<Void> timer, boolean interruptible) {
+        checkHeldByCurrentThread();
+        Waiter waiter = new Waiter();
+        waiters.add(waiter);
+        if (timer != null) {
+            timer.thenRun(() -> waiter.wakeUp(Waiter.TIMED_OUT));
+        }
+        int holdCount = lock.getHoldCount();
+        for (int i = 0; i < holdCount; i++) {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        try {
+            while (waiter.state.get() == Waiter.WAITING) {
+                try {
+                    time.await(waiter.done);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    if (interruptible && waiter.wakeUp(Waiter.INTERRUPTED)) {
+                        interrupted = false;
+                    }
+                }
+            }
+        } finally {
+            for (int i = 0; i < holdCount; i++) {
+                lock.lock();
+            }
+        }
+        waiters.remove(waiter);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return waiter.state.get();
+    }
+
+    private void checkHeldByCurrentThread() {
+        if (!lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+    }
+
+    private static long ceilMillis(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        return TimeUnit.MILLISECONDS.toNanos(millis) < nanos ? millis + 1 : millis;
+    }
+
+    private static final class Waiter {
+
+        static final int WAITING = 0;
+        static final int SIGNALLED = 1;
+        static final int TIMED_OUT = 2;
+        static final int INTERRUPTED = 3;
+
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        boolean wakeUp(int newState) {
+            if (!state.compareAndSet(WAITING, newState)) {
+                return false;
+            }
+            done.complete(null);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link java.util.concurrent.Semaphore} equivalent whose timed acquisitions are measured with a {@link Time},
+ * so that they time out as a mutable time is advanced. Like a non-fair {@code Semaphore}, it makes no guarantee
+ * about the order in which waiting threads acquire permits.
+ */
+public class TimedSemaphore {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimedCondition permitsReleased;
+
+    private int permits;
+
+    /**
+     * Creates a semaphore.
+     *
+     * @param time    the time source measuring the timeouts
+     * @param permits the initial number of permits, which may be negative
+     */
+    public TimedSemaphore(Time time, int permits) {
+        this.permitsReleased = new TimedCondition(time, lock);
+        this.permits = permits;
+    }
+
+    /**
+     * Acquires a permit, waiting until one is available or the thread is interrupted.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    /**
+     * Acquires the given number of permits, waiting until they are all available or the thread is interrupted.
+     *
+     * @param permits the number of permits to acquire
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is negative
+     */
+    public void acquire(int permits) throws InterruptedException {
+        checkPermits(permits);
+        lock.lockInterruptibly();
+        try {
+            while (this.permits < permits) {
+                permitsReleased.await();
+            }
+            this.permits -= permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit if one is available, without waiting.
+     *
+     * @return {@code true} if the permit was acquired
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Acquires the given number of permits if they are all available, without waiting.
+     *
+     * @param permits the number of permits to acquire
+     * @return {@code true} if the permits were acquired
+     * @throws IllegalArgumentException if {@code permits} is negative
+     */
+    public boolean tryAcquire(int permits) {
+        checkPermits(permits);
+        lock.lock();
+        try {
+            if (this.permits < permits) {
+                return false;
+            }
+            this.permits -= permits;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit, waiting until one is available, the timeout elapses according to the {@link Time},
+     * or the thread is interrupted.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the permit was acquired, or {@code false} if the timeout elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(1, timeout, unit);
+    }
+
+    /**
+     * Acquires the given number of permits, waiting until they are all available, the timeout elapses according
+     * to the {@link Time}, or the thread is interrupted.
+     *
+     * @param permits the number of permits to acquire
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the permits were acquired, or {@code false} if the timeout elapsed
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is negative
+     */
+    public boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException {
+        checkPermits(permits);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (this.permits < permits) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = permitsReleased.awaitNanos(nanos);
+            }
+            this.permits -= permits;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit.
+     */
+    public void release() {
+        release(1);
+    }
+
+    /**
+     * Releases the given number of permits.
+     *
+     * @param permits the number of permits to release
+     * @throws IllegalArgumentException if {@code permits} is negative
+     */
+    public void release(int permits) {
+        checkPermits(permits);
+        lock.lock();
+        try {
+            this.permits = Math.addExact(this.permits, permits);
+            permitsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of permits currently available.
+     *
+     * @return the number of available permits
+     */
+    public int availablePermits() {
+        lock.lock();
+        try {
+            return permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkPermits(int permits) {
+        if (permits < 0) {
+            throw new IllegalArgumentException("permits must not be negative: " + permits);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "[Permits = " + availablePermits() + "]";
+    }
+}
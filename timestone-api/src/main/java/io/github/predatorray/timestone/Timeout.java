@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+/**
+ * A handle to a task scheduled to run once a deadline is reached, e.g. by a {@link HashedWheelTimer}.
+ */
+public interface Timeout {
+
+    /**
+     * Attempts to cancel the scheduled task.
+     * <p>
+     * The cancellation fails if the task has already expired or been cancelled.
+     *
+     * @return {@code true} if the task is cancelled by this call, {@code false} otherwise
+     */
+    boolean cancel();
+
+    /**
+     * Returns whether the scheduled task has been cancelled.
+     *
+     * @return {@code true} if the task has been cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns whether the deadline has been reached and the scheduled task has been run or is running.
+     *
+     * @return {@code true} if the task has expired
+     */
+    boolean isExpired();
+}
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token-bucket rate limiter whose time is read through a {@link Time} source.
+ * <p>
+ * The bucket holds up to {@code capacity} permits and is refilled at a constant rate.
+ * Its whole state is packed into a single {@link AtomicLong}: the {@linkplain Time#nanoTime() time}
+ * at which the bucket will be full again. The number of available permits is derived from how far that time
+ * lies in the future, so acquiring permits is a single compare-and-set that pushes it further,
+ * and refilling requires no update at all.
+ * <p>
+ * {@link #tryAcquire(int)} never blocks, while {@link #acquire(int)} reserves the permits and then waits
+ * for them through {@link Time#sleepNanos(long)}, so that the limiter can be tested deterministically with
+ * a mutable time.
+ */
+public class TokenBucketRateLimiter {
+
+    private final Time time;
+
+    private final double permitsPerSecond;
+    private final long capacity;
+
+    private final long nanosPerPermit;
+    private final long capacityNanos;
+
+    /**
+     * The time at which the bucket is full, in terms of {@link Time#nanoTime()}.
+     */
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a rate limiter that can accumulate up to one second worth of permits.
+     *
+     * @param time             the time source
+     * @param permitsPerSecond the rate at which the bucket is refilled
+     * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive
+     */
+    public TokenBucketRateLimiter(Time time, double permitsPerSecond) {
+        this(time, permitsPerSecond, Math.max(1L, (long) permitsPerSecond));
+    }
+
+    /**
+     * Creates a rate limiter. The bucket is initially full.
+     *
+     * @param time             the time source
+     * @param permitsPerSecond the rate at which the bucket is refilled
+     * @param capacity         the maximum number of permits the bucket can hold, i.e. the maximum burst
+     * @throws IllegalArgumentException if {@code permitsPerSecond} or {@code capacity} is not positive
+     */
+    public TokenBucketRateLimiter(Time time, double permitsPerSecond, long capacity) {
+        Objects.requireNonNull(time, "time must not be null");
+        if (!(permitsPerSecond > 0.0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and finite");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.time = time;
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.nanosPerPermit = Math.max(1L, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = saturatedMultiply(capacity, nanosPerPermit);
+        this.fullAt = new AtomicLong(time.nanoTime());
+    }
+
+    /**
+     * Returns the rate at which the bucket is refilled.
+     *
+     * @return the number of permits per second
+     */
+    public double getRate() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Returns the maximum number of permits the bucket can hold.
+     *
+     * @return the capacity of the bucket
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of permits that can currently be acquired without waiting.
+     *
+     * @return the number of available permits
+     */
+    public long availablePermits() {
+        long deficit = fullAt.get() - time.nanoTime();
+        if (deficit <= 0) {
+            return capacity;
+        }
+        return Math.max(0L, (capacityNanos - deficit) / nanosPerPermit);
+    }
+
+    /**
+     * Acquires a single permit if it is available without waiting.
+     *
+     * @return {@code true} if the permit was acquired
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Acquires the given number of permits if they are all available without waiting.
+     * <p>
+     * Requesting more permits than the {@linkplain #getCapacity() capacity} always fails.
+     *
+     * @param permits the number of permits to acquire
+     * @return {@code true} if the permits were acquired
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public boolean tryAcquire(int permits) {
+        long cost = costOf(permits);
+        if (cost > capacityNanos) {
+            return false;
+        }
+        while (true) {
+            long now = time.nanoTime();
+            long current = fullAt.get();
+            long deficit = Math.max(current - now, 0L);
+            if (cost > capacityNanos - deficit) {
+                return false;
+            }
+            long next = now + deficit + cost;
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Acquires a single permit, waiting until it is available.
+     *
+     * @return the time spent waiting, in nanoseconds
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long acquire() throws InterruptedException {
+        return acquire(1);
+    }
+
+    /**
+     * Acquires the given number of permits, waiting until they are all available.
+     * <p>
+     * The permits are reserved before waiting, so that concurrent callers are served in the order of their
+     * reservations. The reservation is not undone if the caller is interrupted while waiting.
+     * A reservation too far ahead to be represented in nanoseconds saturates at {@link Long#MAX_VALUE},
+     * so that the caller waits practically forever instead of being granted the permits at once.
+     *
+     * @param permits the number of permits to acquire
+     * @return the time spent waiting, in nanoseconds
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     * @throws InterruptedException     if interrupted while waiting
+     */
+    public long acquire(int permits) throws InterruptedException {
+        long cost = costOf(permits);
+        long waitNanos;
+        while (true) {
+            long now = time.nanoTime();
+            long current = fullAt.get();
+            long deficit = Math.max(current - now, 0L);
+            long next = now + saturatedAdd(deficit, cost);
+            if (fullAt.compareAndSet(current, next)) {
+                waitNanos = next - now - capacityNanos;
+                break;
+            }
+        }
+        if (waitNanos <= 0) {
+            return 0L;
+        }
+        time.sleepNanos(waitNanos);
+        return waitNanos;
+    }
+
+    private long costOf(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive");
+        }
+        return saturatedMultiply(permits, nanosPerPermit);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        return b > Long.MAX_VALUE - a ? Long.MAX_VALUE : a + b;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        return b > Long.MAX_VALUE / a ? Long.MAX_VALUE : a * b;
+    }
+}
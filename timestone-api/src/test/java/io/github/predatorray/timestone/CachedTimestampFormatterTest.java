@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachedTimestampFormatterTest {
+
+    private static final long JUNE_3_2008 = 1212491130000L;
+
+    @Test
+    void testRfc1123() {
+        FakeTime time = new FakeTime(JUNE_3_2008);
+        CachedTimestampFormatter formatter = CachedTimestampFormatter.rfc1123(time);
+        String first = formatter.get();
+        assertEquals("Tue, 3 Jun 2008 11:05:30 GMT", first);
+
+        time.advance(Duration.ofMillis(999));
+        assertSame(first, formatter.get());
+        time.advance(Duration.ofMillis(1));
+        assertEquals("Tue, 3 Jun 2008 11:05:31 GMT", formatter.get());
+    }
+
+    @Test
+    void testIso8601() {
+        FakeTime time = new FakeTime(JUNE_3_2008 + 123);
+        CachedTimestampFormatter formatter = CachedTimestampFormatter.iso8601(time);
+        String first = formatter.get();
+        assertEquals("2008-06-03T11:05:30.123Z", first);
+        assertSame(first, formatter.get());
+        time.advance(Duration.ofMillis(1));
+        assertEquals("2008-06-03T11:05:30.124Z", formatter.get());
+    }
+
+    @Test
+    void testCustomPatternInTheZoneOfTheFormatter() {
+        FakeTime time = new FakeTime(JUNE_3_2008);
+        CachedTimestampFormatter formatter = new CachedTimestampFormatter(time,
+                DateTimeFormatter.ofPattern("HH:mm").withZone(ZoneOffset.ofHours(2)), TimeUnit.MINUTES);
+        assertEquals("13:05", formatter.get());
+        time.advance(Duration.ofSeconds(29));
+        assertEquals("13:05", formatter.get());
+        time.advance(Duration.ofSeconds(1));
+        assertEquals("13:06", formatter.get());
+    }
+
+    @Test
+    void testFormatTruncatesToResolution() {
+        CachedTimestampFormatter formatter = new CachedTimestampFormatter(new FakeTime(),
+                DateTimeFormatter.ISO_INSTANT, TimeUnit.SECONDS);
+        assertEquals("2008-06-03T11:05:30Z", formatter.format(JUNE_3_2008 + 500));
+        assertEquals("1969-12-31T23:59:59Z", formatter.format(-1));
+    }
+
+    @Test
+    void testTickChangeFormatsAgain() {
+        FakeTime time = new FakeTime(JUNE_3_2008);
+        CachedTimestampFormatter formatter = CachedTimestampFormatter.rfc1123(time);
+        String first = formatter.get();
+        time.advance(Duration.ofSeconds(1));
+        assertEquals("Tue, 3 Jun 2008 11:05:31 GMT", formatter.get());
+        time.advance(Duration.ofSeconds(-1));
+        String again = formatter.get();
+        assertNotSame(first, again);
+        assertEquals(first, again);
+    }
+
+    @Test
+    void testFormatMinimumTick() {
+        CachedTimestampFormatter formatter = new CachedTimestampFormatter(
+                new FakeTime(), DateTimeFormatter.ISO_INSTANT, TimeUnit.MILLISECONDS);
+        String expected = DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(Long.MIN_VALUE));
+        assertEquals(expected, formatter.format(Long.MIN_VALUE));
+        assertEquals(expected, formatter.format(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testInvalidResolution() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedTimestampFormatter(new FakeTime(),
+                DateTimeFormatter.ISO_INSTANT, TimeUnit.MICROSECONDS));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClockTimeTest {
+
+    /**
+     * A clock in a given zone whose time is set by the test.
+     */
+    private static class SettableTime extends ClockTime {
+
+        private final ZoneId zone;
+        private long millis;
+
+        SettableTime(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public ClockTime withZone(ZoneId zone) {
+            SettableTime time = new SettableTime(zone);
+            time.millis = millis;
+            return time;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public void sleep(long millis) {
+            this.millis += millis;
+        }
+    }
+
+    private static void assertLocalFields(SettableTime time) {
+        LocalDateTime expected = LocalDateTime.ofInstant(time.instant(), time.getZone());
+        assertEquals(expected.toLocalDate().toEpochDay(), time.localEpochDay());
+        assertEquals(expected.toLocalTime().toSecondOfDay(), time.localSecondOfDay());
+        assertEquals(expected.toLocalTime().toNanoOfDay() / 1_000_000, time.localMillisOfDay());
+        assertEquals(expected.toInstant(ZoneOffset.UTC).toEpochMilli(), time.localEpochMillis());
+        assertEquals(time.getZone().getRules().getOffset(time.instant()).getTotalSeconds(),
+                time.localOffsetSeconds());
+    }
+
+    @Test
+    void testFixedOffset() {
+        SettableTime time = new SettableTime(ZoneOffset.ofHours(9));
+        time.millis = Instant.parse("2024-03-01T14:59:59.999Z").toEpochMilli();
+        assertLocalFields(time);
+        assertEquals(86399, time.localSecondOfDay());
+        time.millis += 1;
+        assertLocalFields(time);
+        assertEquals(0, time.localSecondOfDay());
+    }
+
+    @Test
+    void testAcrossDaylightSavingTransitions() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        SettableTime time = new SettableTime(newYork);
+        long start = ZonedDateTime.of(2024, 3, 10, 0, 0, 0, 0, newYork).toInstant().toEpochMilli();
+        for (long millis = start; millis < start + 3 * 86_400_000L; millis += 15 * 60_000L) {
+            time.millis = millis;
+            assertLocalFields(time);
+        }
+        long fall = ZonedDateTime.of(2024, 11, 3, 0, 0, 0, 0, newYork).toInstant().toEpochMilli();
+        for (long millis = fall; millis < fall + 86_400_000L; millis += 60_000L) {
+            time.millis = millis;
+            assertLocalFields(time);
+        }
+    }
+
+    @Test
+    void testTimeGoingBackwardsAcrossTransition() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        SettableTime time = new SettableTime(newYork);
+        time.millis = Instant.parse("2024-07-01T00:00:00Z").toEpochMilli();
+        assertLocalFields(time);
+        time.millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        assertLocalFields(time);
+        time.millis = Instant.parse("2024-03-10T07:00:00Z").toEpochMilli();
+        assertLocalFields(time);
+        time.millis -= 1;
+        assertLocalFields(time);
+    }
+
+    @Test
+    void testBeforeEpoch() {
+        SettableTime time = new SettableTime(ZoneId.of("Europe/Paris"));
+        time.millis = Instant.parse("1960-06-15T23:30:00.5Z").toEpochMilli();
+        assertLocalFields(time);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoarseSystemTimeTest {
+
+    @Test
+    void testDefaultResolutionAndZone() {
+        try (CoarseSystemTime time = new CoarseSystemTime()) {
+            assertEquals(CoarseSystemTime.DEFAULT_RESOLUTION, time.getResolution());
+            assertEquals(ZoneId.systemDefault(), time.getZone());
+        }
+    }
+
+    @Test
+    void testInvalidResolution() {
+        assertThrows(IllegalArgumentException.class, () -> new CoarseSystemTime(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CoarseSystemTime(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> new CoarseSystemTime(null));
+    }
+
+    @Test
+    void testNullZoneDoesNotStartRefresher() {
+        long before = countRefreshingThreads();
+        assertThrows(NullPointerException.class, () -> new CoarseSystemTime(Duration.ofMillis(1), null));
+        assertTrue(countRefreshingThreads() <= before);
+    }
+
+    @Test
+    void testMillisIsCloseToSystemTime() {
+        try (CoarseSystemTime time = new CoarseSystemTime(Duration.ofMillis(10))) {
+            long now = System.currentTimeMillis();
+            long coarse = time.millis();
+            // Allow a generous delta for the scheduling delay of the refreshing thread
+            assertTrue(Math.abs(now - coarse) < 1000);
+            assertTrue(time.instant().toEpochMilli() >= coarse);
+        }
+    }
+
+    @Test
+    void testTimeIsRefreshed() throws InterruptedException {
+        try (CoarseSystemTime time = new CoarseSystemTime(Duration.ofMillis(1))) {
+            long startMillis = time.millis();
+            long startNanos = time.nanoTime();
+            time.sleep(50);
+            assertTrue(time.millis() > startMillis);
+            assertTrue(time.nanoTime() - startNanos > 0);
+        }
+    }
+
+    @Test
+    void testClosedTimeReadsSystemClock() {
+        CoarseSystemTime time = new CoarseSystemTime(Duration.ofHours(1));
+        time.close();
+        time.close();
+        long before = System.currentTimeMillis();
+        long actual = time.millis();
+        long after = System.currentTimeMillis();
+        assertTrue(actual >= before && actual <= after);
+    }
+
+    @Test
+    void testWithZoneSharesRefresher() {
+        try (CoarseSystemTime time = new CoarseSystemTime(Duration.ofMillis(5), ZoneId.of("UTC"))) {
+            CoarseSystemTime tokyo = time.withZone(ZoneId.of("Asia/Tokyo"));
+            assertEquals(ZoneId.of("Asia/Tokyo"), tokyo.getZone());
+            assertEquals(time.getResolution(), tokyo.getResolution());
+            assertEquals(time, tokyo.withZone(ZoneId.of("UTC")));
+            assertNotEquals(time, tokyo);
+        }
+    }
+
+    @Test
+    void testEqualsDifferentInstances() {
+        try (CoarseSystemTime time1 = new CoarseSystemTime(Duration.ofMillis(5), ZoneId.of("UTC"));
+             CoarseSystemTime time2 = new CoarseSystemTime(Duration.ofMillis(5), ZoneId.of("UTC"))) {
+            assertNotEquals(time1, time2);
+            assertNotEquals(time1, null);
+        }
+    }
+
+    @Test
+    void testWithZoneIsCached() {
+        try (CoarseSystemTime time = new CoarseSystemTime(Duration.ofMillis(1), ZoneId.of("UTC"))) {
+            ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+            assertSame(time, time.withZone(ZoneId.of("UTC")));
+            CoarseSystemTime inTokyo = time.withZone(tokyo);
+            assertSame(inTokyo, time.withZone(tokyo));
+            assertSame(time, inTokyo.withZone(ZoneId.of("UTC")));
+        }
+    }
+
+    private static long countRefreshingThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> "timestone-coarse-system-time".equals(t.getName()))
+                .count();
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpiringCacheTest {
+
+    @Test
+    void testTimeToLive() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        assertNull(cache.put("a", "1"));
+
+        time.advance(Duration.ofSeconds(9));
+        assertEquals("1", cache.get("a"));
+        time.advance(Duration.ofSeconds(1));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void testTimeToLiveIsNotExtendedByReads() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        cache.put("a", "1");
+        for (int i = 0; i < 9; i++) {
+            time.advance(Duration.ofSeconds(1));
+            assertEquals("1", cache.get("a"));
+        }
+        time.advance(Duration.ofSeconds(1));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testTimeToIdle() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, null, Duration.ofSeconds(10));
+        cache.put("a", "1");
+        for (int i = 0; i < 5; i++) {
+            time.advance(Duration.ofSeconds(9));
+            assertEquals("1", cache.get("a"));
+        }
+        time.advance(Duration.ofSeconds(10));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testTimeToLiveAndTimeToIdle() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(30),
+                Duration.ofSeconds(10));
+        cache.put("a", "1");
+        time.advance(Duration.ofSeconds(9));
+        assertEquals("1", cache.get("a"));
+        time.advance(Duration.ofSeconds(9));
+        assertEquals("1", cache.get("a"));
+        time.advance(Duration.ofSeconds(9));
+        assertEquals("1", cache.get("a"));
+        time.advance(Duration.ofSeconds(3));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testPutResetsExpiry() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        cache.put("a", "1");
+        time.advance(Duration.ofSeconds(5));
+        assertEquals("1", cache.put("a", "2"));
+        time.advance(Duration.ofSeconds(9));
+        assertEquals("2", cache.get("a"));
+        cache.cleanUp();
+        assertEquals("2", cache.get("a"));
+    }
+
+    @Test
+    void testCleanUpEvictsUnreadEntries() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+            time.advance(Duration.ofMillis(10));
+        }
+        assertEquals(1000, cache.estimatedSize());
+
+        time.advance(Duration.ofSeconds(5));
+        cache.cleanUp();
+        assertEquals(499, cache.estimatedSize());
+        time.advance(Duration.ofSeconds(5));
+        cache.cleanUp();
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void testCleanUpKeepsIdleEntriesThatWereRead() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, null, Duration.ofSeconds(10));
+        cache.put("read", "1");
+        cache.put("unread", "2");
+        time.advance(Duration.ofSeconds(8));
+        cache.get("read");
+        time.advance(Duration.ofSeconds(8));
+        cache.cleanUp();
+        assertEquals(1, cache.estimatedSize());
+        assertEquals("1", cache.get("read"));
+    }
+
+    @Test
+    void testCleanUpAfterLongIdlePeriod() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        cache.put("a", "1");
+        time.advance(Duration.ofDays(365));
+        cache.put("b", "2");
+        cache.cleanUp();
+        assertEquals(1, cache.estimatedSize());
+        assertEquals("2", cache.get("b"));
+    }
+
+    @Test
+    void testEntriesBeyondTheWheelSpan() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofDays(1),
+                Duration.ofSeconds(1));
+        cache.put("a", "1");
+        for (int i = 0; i < 100; i++) {
+            time.advance(Duration.ofMillis(900));
+            assertEquals("1", cache.get("a"));
+            cache.cleanUp();
+        }
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testPutIfAbsentAndComputeIfAbsent() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        assertNull(cache.putIfAbsent("a", "1"));
+        assertEquals("1", cache.putIfAbsent("a", "2"));
+
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("1", cache.computeIfAbsent("a", k -> "x" + loads.incrementAndGet()));
+        time.advance(Duration.ofSeconds(10));
+        assertEquals("x1", cache.computeIfAbsent("a", k -> "x" + loads.incrementAndGet()));
+        assertEquals("x1", cache.computeIfAbsent("a", k -> "x" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+
+        assertNull(cache.computeIfAbsent("b", k -> null));
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testReadsSweepExpiredEntries() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(time, Duration.ofSeconds(1));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        time.advance(Duration.ofSeconds(2));
+        assertNull(cache.get(-1));
+        assertEquals(0, cache.estimatedSize());
+        assertEquals(0, cache.scheduledEntries());
+    }
+
+    @Test
+    void testInvalidateAllEmptiesTheWheel() {
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(new FakeTime(), Duration.ofSeconds(1));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(100, cache.scheduledEntries());
+        cache.invalidateAll();
+        assertEquals(0, cache.estimatedSize());
+        assertEquals(0, cache.scheduledEntries());
+    }
+
+    @Test
+    void testRemoveAndInvalidateAll() {
+        FakeTime time = new FakeTime();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(time, Duration.ofSeconds(10));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertEquals("1", cache.remove("a"));
+        assertNull(cache.get("a"));
+        cache.invalidateAll();
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void testInvalidDurations() {
+        FakeTime time = new FakeTime();
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(time, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExpiringCache<>(time, null, Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExponentialBackoffTest {
+
+    @Test
+    void testBackoffSleepsExponentially() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        ExponentialBackoff backoff = new ExponentialBackoff(time, 100, 1000, 2.0);
+
+        backoff.backoff();
+        assertEquals(100, time.millis());
+        backoff.backoff();
+        assertEquals(300, time.millis());
+        backoff.backoff();
+        assertEquals(700, time.millis());
+        backoff.backoff();
+        assertEquals(1500, time.millis());
+        backoff.backoff();
+        assertEquals(2500, time.millis());
+        assertEquals(5, backoff.getAttempts());
+    }
+
+    @Test
+    void testReset() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 10, 1000, 3.0);
+        assertEquals(10, backoff.nextDelayMillis());
+        assertEquals(30, backoff.nextDelayMillis());
+        backoff.reset();
+        assertEquals(0, backoff.getAttempts());
+        assertEquals(10, backoff.nextDelayMillis());
+    }
+
+    @Test
+    void testDelayIsCappedAfterManyAttempts() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 1, Long.MAX_VALUE, 10.0);
+        long previous = 0;
+        for (int i = 0; i < 100; i++) {
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= previous);
+            previous = delay;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    @Test
+    void testFullJitter() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 100, 1000, 2.0, Jitter.FULL);
+        for (long exponential : new long[]{100, 200, 400, 800, 1000, 1000}) {
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= 0 && delay <= exponential, () -> delay + " is not within " + exponential);
+        }
+    }
+
+    @Test
+    void testEqualJitter() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 100, 1000, 2.0, Jitter.EQUAL);
+        for (long exponential : new long[]{100, 200, 400, 800, 1000, 1000}) {
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= exponential / 2 && delay <= exponential,
+                    () -> delay + " is not within " + exponential);
+        }
+    }
+
+    @Test
+    void testDecorrelatedJitter() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 100, 1000, 2.0, Jitter.DECORRELATED);
+        long previous = 100;
+        for (int i = 0; i < 20; i++) {
+            long delay = backoff.nextDelayMillis();
+            long upper = Math.min(1000, Math.max(100, previous * 3));
+            assertTrue(delay >= 100 && delay <= upper, delay + " is not within [100, " + upper + "]");
+            previous = delay;
+        }
+    }
+
+    @Test
+    void testDecorrelatedJitterOnFirstAttempt() {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 100, 1000, 2.0, Jitter.DECORRELATED);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long sum = 0;
+        int samples = 10_000;
+        for (int i = 0; i < samples; i++) {
+            backoff.reset();
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= 100 && delay <= 300, delay + " is not within [100, 300]");
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+            sum += delay;
+        }
+        assertTrue(min < 110, "min = " + min);
+        assertTrue(max > 290, "max = " + max);
+        double mean = (double) sum / samples;
+        assertTrue(mean > 190 && mean < 210, "mean = " + mean);
+    }
+
+    @Test
+    void testSharedAcrossThreads() throws InterruptedException {
+        ExponentialBackoff backoff = new ExponentialBackoff(new FakeTime(), 1, 1000, 2.0);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    backoff.nextDelayMillis();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, backoff.getAttempts());
+    }
+
+    @Test
+    void testBackoffAsync() {
+        FakeTime time = new FakeTime();
+        ExponentialBackoff backoff = new ExponentialBackoff(time, 10, 100, 2.0);
+        CompletableFuture<Void> future = backoff.backoffAsync();
+        time.advance(Duration.ofMillis(9));
+        assertFalse(future.isDone());
+        time.advance(Duration.ofMillis(1));
+        assertTrue(future.isDone());
+        assertEquals(20, backoff.nextDelayMillis());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        FakeTime time = new FakeTime();
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoff(time, 0, 100, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoff(time, 10, 0, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoff(time, 10, 100, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoff(time, 10, 100, Double.NaN));
+    }
+}
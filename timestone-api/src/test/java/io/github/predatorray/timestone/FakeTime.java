@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A controllable {@link Time} for testing the API module, which cannot depend on the {@code MutableTime}.
+ * Its {@linkplain #delay(long) delays} are completed by {@link #advance(Duration)}, in the order of their deadlines.
+ */
+class FakeTime extends ClockTime {
+
+    private final AtomicLong currentNanos;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<long[], CompletableFuture<Void>> delays = new ConcurrentSkipListMap<>(
+            (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+    FakeTime() {
+        this(0L);
+    }
+
+    FakeTime(long currentMillis) {
+        this.currentNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(currentMillis));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public ClockTime withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochSecond(0, currentNanos.get());
+    }
+
+    @Override
+    public long millis() {
+        return TimeUnit.NANOSECONDS.toMillis(currentNanos.get());
+    }
+
+    @Override
+    public long nanoTime() {
+        return currentNanos.get();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        advance(Duration.ofMillis(millis));
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long millis) {
+        if (millis <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        long deadline = currentNanos.get() + TimeUnit.MILLISECONDS.toNanos(millis);
+        delays.put(new long[]{deadline, sequence.getAndIncrement()}, future);
+        return future;
+    }
+
+    void advance(Duration duration) {
+        long now = currentNanos.addAndGet(duration.toNanos());
+        Map.Entry<long[], CompletableFuture<Void>> first;
+        while ((first = delays.firstEntry()) != null && first.getKey()[0] <= now) {
+            if (delays.remove(first.getKey(), first.getValue())) {
+                first.getValue().complete(null);
+            }
+        }
+    }
+
+    int pendingDelays() {
+        delays.values().removeIf(CompletableFuture::isDone);
+        return delays.size();
+    }
+}
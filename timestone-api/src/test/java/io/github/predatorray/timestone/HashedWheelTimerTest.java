@@ -0,0 +1,252 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void testInvalidArguments() {
+        FakeTime time = new FakeTime();
+        assertThrows(NullPointerException.class, () -> new HashedWheelTimer(null));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(time, 0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(time, 1, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    void testTimeoutExpiresAfterDeadline() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time, 10, TimeUnit.MILLISECONDS, 8);
+        AtomicInteger counter = new AtomicInteger();
+        Timeout timeout = timer.newTimeout(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.pendingTimeouts());
+
+        time.advance(Duration.ofMillis(99));
+        assertEquals(0, timer.expireTimeouts());
+        assertFalse(timeout.isExpired());
+
+        time.advance(Duration.ofMillis(11));
+        assertEquals(1, timer.expireTimeouts());
+        assertTrue(timeout.isExpired());
+        assertEquals(1, counter.get());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void testTimeoutsBeyondOneWheelRound() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time, 1, TimeUnit.MILLISECONDS, 4);
+        List<Integer> expired = new ArrayList<>();
+        timer.newTimeout(() -> expired.add(10), 10, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> expired.add(2), 2, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> expired.add(6), 6, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 12; i++) {
+            time.advance(Duration.ofMillis(1));
+            timer.expireTimeouts();
+        }
+        assertEquals(Arrays.asList(2, 6, 10), expired);
+    }
+
+    @Test
+    void testLongJumpExpiresAllTimeouts() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        int count = 10_000;
+        AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            timer.newTimeout(counter::incrementAndGet, i, TimeUnit.SECONDS);
+        }
+        time.advance(Duration.ofHours(3));
+        assertEquals(count, timer.expireTimeouts());
+        assertEquals(count, counter.get());
+    }
+
+    @Test
+    void testLongJumpExpiresInDeadlineOrderInBoundedTime() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time, 1, TimeUnit.MILLISECONDS, 8);
+        List<Integer> expired = new ArrayList<>();
+        timer.newTimeout(() -> expired.add(300), 300, TimeUnit.DAYS);
+        timer.newTimeout(() -> expired.add(3), 3, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> expired.add(100), 100, TimeUnit.DAYS);
+        timer.newTimeout(() -> expired.add(500), 500, TimeUnit.DAYS);
+        time.advance(Duration.ofMillis(1));
+        timer.expireTimeouts();
+
+        time.advance(Duration.ofDays(365));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals(3, timer.expireTimeouts()));
+        assertEquals(Arrays.asList(3, 100, 300), expired);
+        assertEquals(1, timer.pendingTimeouts());
+
+        time.advance(Duration.ofDays(135).minusMillis(1));
+        assertEquals(0, timer.expireTimeouts());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(1, timer.expireTimeouts());
+        assertEquals(Arrays.asList(3, 100, 300, 500), expired);
+    }
+
+    @Test
+    void testLongIdleJumpIsSkipped() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        Timeout cancelled = timer.newTimeout(() -> {}, 1, TimeUnit.HOURS);
+        cancelled.cancel();
+        time.advance(Duration.ofDays(365));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals(0, timer.expireTimeouts()));
+        assertEquals(0, timer.pendingTimeouts());
+
+        AtomicInteger counter = new AtomicInteger();
+        timer.newTimeout(counter::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        time.advance(Duration.ofMillis(10));
+        assertEquals(0, timer.expireTimeouts());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(1, timer.expireTimeouts());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void testCancel() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        AtomicInteger counter = new AtomicInteger();
+        Timeout notTransferred = timer.newTimeout(counter::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        Timeout transferred = timer.newTimeout(counter::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(notTransferred.cancel());
+        assertFalse(notTransferred.cancel());
+        time.advance(Duration.ofMillis(2));
+        timer.expireTimeouts();
+        assertTrue(transferred.cancel());
+        assertTrue(transferred.isCancelled());
+
+        time.advance(Duration.ofMillis(20));
+        assertEquals(0, timer.expireTimeouts());
+        assertEquals(0, counter.get());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void testCannotCancelExpiredTimeout() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        Timeout timeout = timer.newTimeout(() -> {}, 1, TimeUnit.MILLISECONDS);
+        time.advance(Duration.ofMillis(2));
+        timer.expireTimeouts();
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.isCancelled());
+    }
+
+    @Test
+    void testTaskSchedulingAnotherTimeout() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        AtomicInteger counter = new AtomicInteger();
+        timer.newTimeout(() -> timer.newTimeout(counter::incrementAndGet, 5, TimeUnit.MILLISECONDS),
+                5, TimeUnit.MILLISECONDS);
+
+        time.advance(Duration.ofMillis(6));
+        assertEquals(1, timer.expireTimeouts());
+        assertEquals(0, counter.get());
+        time.advance(Duration.ofMillis(6));
+        assertEquals(1, timer.expireTimeouts());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void testExceptionDoesNotAffectOtherTimeouts() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        AtomicInteger counter = new AtomicInteger();
+        timer.newTimeout(() -> {
+            throw new IllegalStateException();
+        }, 1, TimeUnit.MILLISECONDS);
+        timer.newTimeout(counter::incrementAndGet, 1, TimeUnit.MILLISECONDS);
+
+        time.advance(Duration.ofMillis(2));
+        assertEquals(2, timer.expireTimeouts());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void testDelay() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        CompletableFuture<Void> delay = timer.delay(10, TimeUnit.MILLISECONDS);
+        time.advance(Duration.ofMillis(5));
+        timer.expireTimeouts();
+        assertFalse(delay.isDone());
+        time.advance(Duration.ofMillis(6));
+        timer.expireTimeouts();
+        assertTrue(delay.isDone());
+    }
+
+    @Test
+    void testCancelDelay() {
+        FakeTime time = new FakeTime();
+        HashedWheelTimer timer = new HashedWheelTimer(time);
+        CompletableFuture<Void> delay = timer.delay(10, TimeUnit.MILLISECONDS);
+        assertTrue(delay.cancel(false));
+        time.advance(Duration.ofMillis(20));
+        assertEquals(0, timer.expireTimeouts());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void testWorkerWithSystemTime() throws InterruptedException {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Time.SYSTEM)) {
+            timer.start();
+            timer.start();
+            CountDownLatch latch = new CountDownLatch(2);
+            timer.newTimeout(latch::countDown, 10, TimeUnit.MILLISECONDS);
+            timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testStartAfterClose() {
+        HashedWheelTimer timer = new HashedWheelTimer(Time.SYSTEM);
+        timer.start();
+        timer.close();
+        assertThrows(IllegalStateException.class, timer::start);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HybridLogicalClockTest {
+
+    @Test
+    void testNowFollowsPhysicalTime() {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+
+        assertEquals(HybridLogicalClock.pack(1000, 0), clock.now());
+        assertEquals(HybridLogicalClock.pack(1000, 1), clock.now());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(HybridLogicalClock.pack(1001, 0), clock.now());
+        assertEquals(HybridLogicalClock.pack(1001, 0), clock.lastTimestamp());
+    }
+
+    @Test
+    void testNowIsMonotonicWhenPhysicalTimeGoesBackwards() {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+        long before = clock.now();
+        time.advance(Duration.ofMillis(-100));
+        long after = clock.now();
+
+        assertTrue(after > before);
+        assertEquals(1000, HybridLogicalClock.physicalMillis(after));
+        assertEquals(1, HybridLogicalClock.logical(after));
+        assertEquals(1000, clock.millis());
+    }
+
+    @Test
+    void testUpdateOrdersCausally() {
+        FakeTime fastTime = new FakeTime(5000);
+        FakeTime slowTime = new FakeTime(1000);
+        HybridLogicalClock fast = new HybridLogicalClock(fastTime);
+        HybridLogicalClock slow = new HybridLogicalClock(slowTime);
+
+        long sent = fast.now();
+        long received = slow.update(sent);
+        assertTrue(received > sent);
+        assertEquals(HybridLogicalClock.pack(5000, 1), received);
+
+        long local = slow.now();
+        assertTrue(local > received);
+        assertEquals(5000, slow.millis());
+
+        slowTime.advance(Duration.ofSeconds(10));
+        assertEquals(HybridLogicalClock.pack(11000, 0), slow.now());
+    }
+
+    @Test
+    void testUpdateWithOlderRemoteTimestamp() {
+        FakeTime time = new FakeTime(5000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+        clock.now();
+        assertEquals(HybridLogicalClock.pack(5000, 1), clock.update(HybridLogicalClock.pack(1000, 7)));
+    }
+
+    @Test
+    void testMaxOffset() {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time, 500);
+        clock.update(HybridLogicalClock.pack(1500, 0));
+        long before = clock.lastTimestamp();
+        assertThrows(IllegalArgumentException.class, () -> clock.update(HybridLogicalClock.pack(1501, 0)));
+        assertEquals(before, clock.lastTimestamp());
+    }
+
+    @Test
+    void testLogicalOverflowCarriesIntoPhysical() {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+        long timestamp = clock.update(HybridLogicalClock.pack(1000, 65535));
+        assertEquals(HybridLogicalClock.pack(1001, 0), timestamp);
+    }
+
+    @Test
+    void testLogicalCounterDrivenToMaximumByNow() {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+        long timestamp = 0;
+        for (int i = 0; i <= 65535; i++) {
+            timestamp = clock.now();
+        }
+        assertEquals(HybridLogicalClock.pack(1000, 65535), timestamp);
+
+        assertEquals(HybridLogicalClock.pack(1001, 0), clock.now());
+        assertEquals(1001, clock.millis());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(HybridLogicalClock.pack(1001, 1), clock.now());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(HybridLogicalClock.pack(1002, 0), clock.now());
+    }
+
+    @Test
+    void testConcurrentTimestampsAreUnique() throws InterruptedException {
+        FakeTime time = new FakeTime(1000);
+        HybridLogicalClock clock = new HybridLogicalClock(time);
+        long[][] timestamps = new long[4][10_000];
+        Thread[] threads = new Thread[timestamps.length];
+        for (int i = 0; i < threads.length; i++) {
+            long[] own = timestamps[i];
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < own.length; j++) {
+                    own[j] = clock.now();
+                    if (j > 0) {
+                        assertTrue(own[j] > own[j - 1]);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        Set<Long> all = new HashSet<>();
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            for (long timestamp : timestamps[i]) {
+                all.add(timestamp);
+            }
+        }
+        assertEquals(40_000, all.size());
+    }
+
+    @Test
+    void testWithZoneSharesTimestamps() {
+        HybridLogicalClock clock = new HybridLogicalClock(Time.SYSTEM);
+        HybridLogicalClock utc = clock.withZone(ZoneOffset.UTC);
+        assertEquals(ZoneOffset.UTC, utc.getZone());
+        long timestamp = clock.now();
+        assertTrue(utc.now() > timestamp);
+    }
+
+    @Test
+    void testPack() {
+        long timestamp = HybridLogicalClock.pack(1577836800000L, 3);
+        assertEquals(1577836800000L, HybridLogicalClock.physicalMillis(timestamp));
+        assertEquals(3, HybridLogicalClock.logical(timestamp));
+        assertEquals("2020-01-01T00:00:00Z+3", HybridLogicalClock.toString(timestamp));
+        assertThrows(IllegalArgumentException.class, () -> HybridLogicalClock.pack(-1, 0));
+        assertEquals(Long.MAX_VALUE, HybridLogicalClock.pack((1L << 47) - 1, 65535));
+        assertThrows(IllegalArgumentException.class, () -> HybridLogicalClock.pack(1L << 47, 0));
+        assertThrows(IllegalArgumentException.class, () -> HybridLogicalClock.pack(0, 65536));
+        assertThrows(IllegalArgumentException.class, () -> new HybridLogicalClock(Time.SYSTEM, -1));
+    }
+}
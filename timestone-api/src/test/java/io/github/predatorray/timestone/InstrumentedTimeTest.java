@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedTimeTest {
+
+    /**
+     * A fake time whose sleeps last longer than requested.
+     */
+    private static class OversleepingTime extends FakeTime {
+
+        private final Duration oversleep;
+
+        OversleepingTime(Duration oversleep) {
+            this.oversleep = oversleep;
+        }
+
+        @Override
+        public void sleep(long millis) throws InterruptedException {
+            super.sleep(millis);
+            advance(oversleep);
+        }
+    }
+
+    @Test
+    void testClockReadsAreCounted() {
+        FakeTime delegate = new FakeTime(1234);
+        InstrumentedTime time = new InstrumentedTime(delegate);
+
+        assertEquals(1234, time.millis());
+        time.millis();
+        time.instant();
+        time.epochNanos();
+        time.nanoTime();
+
+        TimeMetrics metrics = time.getMetrics();
+        assertEquals(InstrumentedTime.DEFAULT_TAG, metrics.getTag());
+        assertEquals(2, metrics.getMillisCalls());
+        assertEquals(2, metrics.getInstantCalls());
+        assertEquals(1, metrics.getNanoTimeCalls());
+    }
+
+    @Test
+    void testSleepsAreMeasured() throws InterruptedException {
+        InstrumentedTime time = new InstrumentedTime(new OversleepingTime(Duration.ofMillis(3)), "sleepy");
+        time.sleep(10);
+        time.sleep(20);
+        time.sleepNanos(TimeUnit.MILLISECONDS.toNanos(5));
+
+        TimeMetrics metrics = time.getMetrics();
+        assertEquals(3, metrics.getSleepCalls());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(35), metrics.getRequestedSleepNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(44), metrics.getActualSleepNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(9), metrics.getOversleepNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(3), metrics.getMaxOversleepNanos());
+        assertEquals(0, metrics.getNanoTimeCalls(), "measurements should not be counted as clock reads");
+    }
+
+    @Test
+    void testDelaysAreMeasured() {
+        FakeTime delegate = new FakeTime();
+        InstrumentedTime time = new InstrumentedTime(delegate);
+        CompletableFuture<Void> delay = time.delay(10);
+        assertEquals(0, time.getMetrics().getDelayCalls());
+
+        delegate.advance(Duration.ofMillis(15));
+        assertTrue(delay.isDone());
+        assertEquals(1, time.getMetrics().getDelayCalls());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), time.getMetrics().getOversleepNanos());
+    }
+
+    @Test
+    void testTagsAreSharedAcrossDerivedInstances() {
+        InstrumentedTime time = new InstrumentedTime(new FakeTime());
+        InstrumentedTime a = time.withTag("a");
+        InstrumentedTime anotherA = time.withTag("a");
+        InstrumentedTime b = a.withTag("b");
+
+        a.millis();
+        anotherA.millis();
+        b.millis();
+
+        assertSame(a.getMetrics(), anotherA.getMetrics());
+        assertEquals(2, a.getMetrics().getMillisCalls());
+        assertEquals(1, b.getMetrics().getMillisCalls());
+        assertEquals(0, time.getMetrics().getMillisCalls());
+        assertEquals(3, time.getAllMetrics().size());
+    }
+
+    @Test
+    void testWithZoneKeepsMetrics() {
+        InstrumentedTime time = new InstrumentedTime(Time.SYSTEM);
+        InstrumentedTime utc = time.withZone(ZoneOffset.UTC);
+        assertEquals(ZoneOffset.UTC, utc.getZone());
+        utc.millis();
+        assertEquals(1, time.getMetrics().getMillisCalls());
+    }
+
+    @Test
+    void testReset() {
+        InstrumentedTime time = new InstrumentedTime(new FakeTime());
+        time.millis();
+        time.getMetrics().reset();
+        assertEquals(0, time.getMetrics().getMillisCalls());
+    }
+
+    @Test
+    void testMBeans() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        InstrumentedTime time = new InstrumentedTime(new FakeTime(), "jmx-test");
+        time.millis();
+        time.registerMBeans();
+        try {
+            assertEquals(1L, server.getAttribute(InstrumentedTime.objectName("jmx-test"), "MillisCalls"));
+
+            InstrumentedTime later = time.withTag("jmx-test-later");
+            later.nanoTime();
+            assertEquals(1L, server.getAttribute(InstrumentedTime.objectName("jmx-test-later"), "NanoTimeCalls"));
+
+            InstrumentedTime conflicting = new InstrumentedTime(new FakeTime(), "jmx-test");
+            assertThrows(IllegalStateException.class, conflicting::registerMBeans);
+            assertTrue(server.isRegistered(InstrumentedTime.objectName("jmx-test")));
+        } finally {
+            time.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(InstrumentedTime.objectName("jmx-test")));
+        assertFalse(server.isRegistered(InstrumentedTime.objectName("jmx-test-later")));
+    }
+}
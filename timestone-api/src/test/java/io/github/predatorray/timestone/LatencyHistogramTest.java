@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundaries() {
+        int previous = -1;
+        for (long value : new long[]{0, 1, 63, 64, 65, 127, 128, 1000, 1L << 40, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.lowestEquivalentValue(index) <= value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            previous = index;
+        }
+        assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+        for (int index = 1; index <= LatencyHistogram.bucketIndex(Long.MAX_VALUE); index++) {
+            assertEquals(LatencyHistogram.highestEquivalentValue(index - 1) + 1,
+                    LatencyHistogram.lowestEquivalentValue(index));
+        }
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram(new FakeTime());
+        for (long i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+        assertEquals(50, histogram.getTotalCount());
+        assertEquals(50, histogram.getMax());
+        assertEquals(25, histogram.valueAtPercentile(50));
+        assertEquals(50, histogram.valueAtPercentile(100));
+        assertEquals(1, histogram.valueAtPercentile(0));
+        assertEquals(25.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    void testPercentilesAreWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(new FakeTime());
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertPercentile(TimeUnit.MILLISECONDS.toNanos(5), histogram.valueAtPercentile(50));
+        assertPercentile(TimeUnit.MILLISECONDS.toNanos(9) + TimeUnit.MICROSECONDS.toNanos(900),
+                histogram.valueAtPercentile(99));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void testRecordSince() {
+        FakeTime time = new FakeTime();
+        LatencyHistogram histogram = new LatencyHistogram(time);
+        long start = time.nanoTime();
+        time.advance(Duration.ofMillis(3));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(3), histogram.recordSince(start));
+
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        time.advance(Duration.ofMillis(7));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(7), histogram.record(stopWatch));
+
+        assertEquals(2, histogram.getTotalCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(7), histogram.getMax());
+        assertPercentile(TimeUnit.MILLISECONDS.toNanos(3), histogram.valueAtPercentile(50));
+    }
+
+    @Test
+    void testAddAndSnapshot() {
+        LatencyHistogram a = new LatencyHistogram(new FakeTime());
+        LatencyHistogram b = new LatencyHistogram(new FakeTime());
+        a.record(10, 3);
+        b.record(1000, 1);
+
+        LatencyHistogram merged = a.snapshot();
+        merged.add(b);
+        assertEquals(3, a.getTotalCount());
+        assertEquals(4, merged.getTotalCount());
+        assertEquals(1000, merged.getMax());
+        assertEquals(10, merged.valueAtPercentile(75));
+        assertPercentile(1000, merged.valueAtPercentile(76));
+    }
+
+    @Test
+    void testIntervalSnapshotMovesCounts() {
+        LatencyHistogram histogram = new LatencyHistogram(new FakeTime());
+        histogram.record(100);
+        histogram.record(200);
+
+        LatencyHistogram interval = histogram.intervalSnapshot();
+        assertEquals(2, interval.getTotalCount());
+        assertPercentile(200, interval.getMax());
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.valueAtPercentile(99));
+
+        histogram.record(300);
+        assertEquals(1, histogram.intervalSnapshot().getTotalCount());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        LatencyHistogram histogram = new LatencyHistogram(new FakeTime());
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(Double.NaN));
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(new FakeTime());
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getTotalCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    private static void assertPercentile(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32,
+                () -> "expected " + expected + " within 1/32, but was " + actual);
+    }
+}
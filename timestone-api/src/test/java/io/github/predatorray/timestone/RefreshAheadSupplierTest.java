@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshAheadSupplierTest {
+
+    private static Supplier<Integer> counting(AtomicInteger loads) {
+        return loads::incrementAndGet;
+    }
+
+    @Test
+    void testValueIsMemoized() {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, counting(loads),
+                Duration.ofSeconds(10), refreshes::add);
+
+        assertEquals(1, supplier.get());
+        time.advance(Duration.ofSeconds(7));
+        assertEquals(1, supplier.get());
+        assertEquals(1, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void testRefreshAheadServesStaleValueUntilRefreshed() {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, counting(loads),
+                Duration.ofSeconds(10), 0.5, refreshes::add);
+
+        assertEquals(1, supplier.get());
+        time.advance(Duration.ofSeconds(5));
+        assertEquals(1, supplier.get());
+        assertEquals(1, supplier.get());
+        assertEquals(1, refreshes.size(), "only one refresh should be in flight");
+
+        refreshes.poll().run();
+        assertEquals(2, supplier.get());
+        assertEquals(2, loads.get());
+
+        time.advance(Duration.ofSeconds(4));
+        assertEquals(2, supplier.get());
+        assertTrue(refreshes.isEmpty());
+        time.advance(Duration.ofSeconds(1));
+        assertEquals(2, supplier.get());
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    void testExpiredValueIsLoadedSynchronously() {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, counting(loads),
+                Duration.ofSeconds(10), refreshes::add);
+
+        assertEquals(1, supplier.get());
+        time.advance(Duration.ofSeconds(10));
+        assertEquals(2, supplier.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void testFailedRefreshKeepsValue() {
+        FakeTime time = new FakeTime();
+        AtomicInteger attempts = new AtomicInteger();
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, () -> {
+            if (attempts.incrementAndGet() == 2) {
+                throw new IllegalStateException();
+            }
+            return attempts.get();
+        }, Duration.ofSeconds(10), 0.5, refreshes::add);
+
+        assertEquals(1, supplier.get());
+        time.advance(Duration.ofSeconds(6));
+        supplier.get();
+        refreshes.poll().run();
+        assertEquals(1, supplier.get());
+        refreshes.poll().run();
+        assertEquals(3, supplier.get());
+    }
+
+    @Test
+    void testRejectedRefreshIsRetried() {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger submissions = new AtomicInteger();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, counting(loads),
+                Duration.ofSeconds(10), 0.5, command -> {
+                    if (submissions.incrementAndGet() == 1) {
+                        throw new RejectedExecutionException();
+                    }
+                    command.run();
+                });
+
+        supplier.get();
+        time.advance(Duration.ofSeconds(5));
+        assertEquals(1, supplier.get());
+        supplier.get();
+        assertEquals(2, supplier.get());
+    }
+
+    @Test
+    void testInvalidate() {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, counting(loads),
+                Duration.ofSeconds(10), Runnable::run);
+        assertEquals(1, supplier.get());
+        supplier.invalidate();
+        assertEquals(2, supplier.get());
+    }
+
+    @Test
+    void testConcurrentLoadIsSingleFlight() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RefreshAheadSupplier<Integer> supplier = new RefreshAheadSupplier<>(time, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loads.incrementAndGet();
+        }, Duration.ofSeconds(10), Runnable::run);
+
+        int[] results = new int[4];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> results[index] = supplier.get());
+            threads[i].start();
+        }
+        started.await();
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        for (int result : results) {
+            assertEquals(1, result);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        FakeTime time = new FakeTime();
+        assertThrows(IllegalArgumentException.class,
+                () -> new RefreshAheadSupplier<>(time, () -> 1, Duration.ZERO, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RefreshAheadSupplier<>(time, () -> 1, Duration.ofSeconds(1), 0.0, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RefreshAheadSupplier<>(time, () -> 1, Duration.ofSeconds(1), 1.5, Runnable::run));
+    }
+}
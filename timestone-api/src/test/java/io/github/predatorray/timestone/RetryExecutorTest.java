@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryExecutorTest {
+
+    private static Supplier<Backoff> backoff(FakeTime time) {
+        return () -> new ExponentialBackoff(time, 100, 1000, 2.0);
+    }
+
+    private static Supplier<CompletableFuture<String>> failingTimes(AtomicInteger attempts, int failures,
+                                                                   Throwable failure) {
+        return () -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            if (attempts.incrementAndGet() <= failures) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete("ok");
+            }
+            return future;
+        };
+    }
+
+    @Test
+    void testSucceedsWithoutRetry() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(3), backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(failingTimes(attempts, 0, new IOException()));
+        assertEquals("ok", result.join());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testRetriesAreScheduledByTime() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(5), backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(failingTimes(attempts, 2, new IOException()));
+
+        assertEquals(1, attempts.get());
+        time.advance(Duration.ofMillis(99));
+        assertEquals(1, attempts.get());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(2, attempts.get());
+        time.advance(Duration.ofMillis(199));
+        assertFalse(result.isDone());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(3, attempts.get());
+        assertEquals("ok", result.join());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testAttemptsAreExhausted() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(2), backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        IOException failure = new IOException();
+        CompletableFuture<String> result = executor.execute(failingTimes(attempts, 10, failure));
+
+        time.advance(Duration.ofSeconds(10));
+        assertEquals(2, attempts.get());
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertEquals(failure, e.getCause());
+    }
+
+    @Test
+    void testNonRetryableFailure() {
+        FakeTime time = new FakeTime();
+        RetryPolicy policy = new RetryPolicy(5, RetryPolicy.retryOn(IOException.class));
+        RetryExecutor executor = new RetryExecutor(time, policy, backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(
+                failingTimes(attempts, 10, new IllegalStateException()));
+
+        assertEquals(1, attempts.get());
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testMaxDuration() {
+        FakeTime time = new FakeTime();
+        RetryPolicy policy = new RetryPolicy(10, t -> true, Duration.ofMillis(350));
+        RetryExecutor executor = new RetryExecutor(time, policy, backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(failingTimes(attempts, 10, new IOException()));
+
+        time.advance(Duration.ofMillis(100));
+        time.advance(Duration.ofMillis(200));
+        assertEquals(3, attempts.get());
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testSupplierThrowing() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(2), backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return CompletableFuture.completedFuture("ok");
+        });
+        time.advance(Duration.ofMillis(100));
+        assertEquals("ok", result.join());
+    }
+
+    @Test
+    void testCancellationStopsRetries() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(5), backoff(time));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = executor.execute(failingTimes(attempts, 10, new IOException()));
+
+        assertTrue(result.cancel(false));
+        assertEquals(0, time.pendingDelays());
+        time.advance(Duration.ofSeconds(10));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testEachExecutionHasItsOwnBackoff() {
+        FakeTime time = new FakeTime();
+        RetryExecutor executor = new RetryExecutor(time, new RetryPolicy(2), backoff(time));
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        executor.execute(failingTimes(first, 1, new IOException()));
+        executor.execute(failingTimes(second, 1, new IOException()));
+
+        time.advance(Duration.ofMillis(100));
+        assertEquals(2, first.get());
+        assertEquals(2, second.get());
+    }
+
+    @Test
+    void testInvalidPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(0));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(1, t -> true, Duration.ofMillis(-1)));
+        assertInstanceOf(RetryPolicy.class, new RetryPolicy(1, t -> true, Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS;
+
+    @Test
+    void testLayout() {
+        FakeTime time = new FakeTime(EPOCH + 12345);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 42);
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertEquals((12345L << 22) | (42L << 12), first);
+        assertEquals(first + 1, second);
+        assertEquals(EPOCH + 12345, generator.timestampMillisOf(second));
+        assertEquals(42, generator.nodeIdOf(second));
+        assertEquals(1, generator.sequenceOf(second));
+
+        time.advance(Duration.ofMillis(1));
+        long third = generator.nextId();
+        assertEquals(EPOCH + 12346, generator.timestampMillisOf(third));
+        assertEquals(0, generator.sequenceOf(third));
+    }
+
+    @Test
+    void testSequenceOverflowBorrowsNextMillisecond() {
+        FakeTime time = new FakeTime(EPOCH);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, EPOCH, 0, 2, 0, 10);
+        long previous = -1;
+        for (int i = 0; i < 8; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(EPOCH + 1, generator.timestampMillisOf(previous));
+        assertEquals(3, generator.sequenceOf(previous));
+        assertEquals(EPOCH, time.millis());
+    }
+
+    @Test
+    void testClockRegressionKeepsIdsIncreasing() {
+        FakeTime time = new FakeTime(EPOCH + 1000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 1);
+        long before = generator.nextId();
+        time.advance(Duration.ofMillis(-500));
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+        assertEquals(EPOCH + 1000, generator.timestampMillisOf(after));
+        assertEquals(EPOCH + 500, time.millis(), "a regression within the drift should not wait");
+    }
+
+    @Test
+    void testLargeClockRegressionWaitsForClock() {
+        FakeTime time = new FakeTime(EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, EPOCH, 10, 12, 1, 100);
+        long before = generator.nextId();
+        time.advance(Duration.ofMillis(-5_000));
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+        assertTrue(time.millis() >= EPOCH + 10_000 - 100, "the generator should have slept");
+    }
+
+    @Test
+    void testNextIds() {
+        FakeTime time = new FakeTime(EPOCH);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 3);
+        long[] ids = new long[5000];
+        generator.nextIds(ids);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+            assertEquals(3, generator.nodeIdOf(ids[i]));
+        }
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    void testMonotonicTimestamps() {
+        FakeTime time = new FakeTime(EPOCH);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 0, 0, 0, 0, 1000);
+        assertEquals(EPOCH, generator.nextId());
+        assertEquals(EPOCH + 1, generator.nextId());
+        time.advance(Duration.ofMillis(10));
+        assertEquals(EPOCH + 10, generator.nextId());
+    }
+
+    @Test
+    void testBatchedIdsAreUniqueAcrossThreads() throws InterruptedException {
+        FakeTime time = new FakeTime(EPOCH);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                long previousBatched = -1;
+                for (int j = 0; j < 5_000; j++) {
+                    long batched = generator.nextIdBatched();
+                    assertTrue(batched > previousBatched);
+                    previousBatched = batched;
+                    ids.add(batched);
+                    ids.add(generator.nextId());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    void testConcurrentIdsAreUnique() throws InterruptedException {
+        FakeTime time = new FakeTime(EPOCH);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(time, 0);
+        List<Set<Long>> perThread = new ArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            Set<Long> ids = new HashSet<>();
+            perThread.add(ids);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                    if (j % 1000 == 0) {
+                        time.advance(Duration.ofMillis(1));
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        Set<Long> all = new HashSet<>();
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            all.addAll(perThread.get(i));
+        }
+        assertEquals(40_000, all.size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        FakeTime time = new FakeTime();
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(time, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(time, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(time, 0, 20, 20, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(time, 0, 10, 12, 0, -1));
+    }
+}
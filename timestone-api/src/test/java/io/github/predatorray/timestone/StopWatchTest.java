@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StopWatchTest {
+
+    @Test
+    void testElapsedWhileRunningAndStopped() {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = new StopWatch(time);
+        assertFalse(stopWatch.isRunning());
+        assertEquals(0, stopWatch.elapsedNanos());
+
+        stopWatch.start();
+        assertTrue(stopWatch.isRunning());
+        time.advance(Duration.ofNanos(1500));
+        assertEquals(1500, stopWatch.elapsedNanos());
+
+        stopWatch.stop();
+        time.advance(Duration.ofHours(1));
+        assertEquals(1500, stopWatch.elapsedNanos());
+        assertEquals(1, stopWatch.elapsed(TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    void testElapsedAccumulatesAcrossRuns() {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        time.advance(Duration.ofSeconds(1));
+        stopWatch.stop();
+        time.advance(Duration.ofSeconds(10));
+        stopWatch.start();
+        time.advance(Duration.ofSeconds(2));
+        assertEquals(3, stopWatch.elapsed(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testIllegalStates() {
+        StopWatch stopWatch = new StopWatch(new FakeTime());
+        assertThrows(IllegalStateException.class, stopWatch::stop);
+        stopWatch.start();
+        assertThrows(IllegalStateException.class, stopWatch::start);
+    }
+
+    @Test
+    void testSplit() {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        time.advance(Duration.ofMillis(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), stopWatch.split());
+        time.advance(Duration.ofMillis(50));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), stopWatch.getSplitNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(150), stopWatch.elapsedNanos());
+        assertTrue(stopWatch.isRunning());
+    }
+
+    @Test
+    void testLaps() {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        time.advance(Duration.ofMillis(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), stopWatch.lap());
+        time.advance(Duration.ofMillis(30));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(30), stopWatch.currentLapNanos());
+        time.advance(Duration.ofMillis(20));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), stopWatch.lap());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(150), stopWatch.elapsedNanos());
+    }
+
+    @Test
+    void testReset() {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        time.advance(Duration.ofMillis(100));
+        stopWatch.split();
+        stopWatch.lap();
+        stopWatch.reset();
+
+        assertFalse(stopWatch.isRunning());
+        assertEquals(0, stopWatch.elapsedNanos());
+        assertEquals(0, stopWatch.getSplitNanos());
+        stopWatch.start();
+        time.advance(Duration.ofMillis(10));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), stopWatch.lap());
+    }
+
+    @Test
+    void testSharedAcrossThreads() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        StopWatch stopWatch = StopWatch.createStarted(time);
+        int threadCount = 4;
+        int laps = 1000;
+        long[] totals = new long[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < laps; j++) {
+                    time.advance(Duration.ofNanos(1));
+                    totals[index] += stopWatch.lap();
+                }
+            });
+            threads[i].start();
+        }
+        long sum = 0;
+        for (int i = 0; i < threadCount; i++) {
+            threads[i].join();
+            sum += totals[i];
+        }
+        assertEquals(stopWatch.elapsedNanos(), sum + stopWatch.currentLapNanos());
+        assertEquals(threadCount * laps, stopWatch.elapsedNanos());
+    }
+}
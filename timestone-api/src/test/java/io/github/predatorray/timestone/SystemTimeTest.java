@@ -25,11 +25,17 @@
 package io.github.predatorray.timestone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.ZoneId;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +63,17 @@ class SystemTimeTest {
         assertNotEquals(systemTime.getZone(), newSystemTime.getZone());
     }
 
+    @Test
+    void testWithZoneIsCached() {
+        SystemTime systemTime = new SystemTime(ZoneId.of("UTC"));
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        assertSame(systemTime, systemTime.withZone(ZoneId.of("UTC")));
+        SystemTime inTokyo = systemTime.withZone(tokyo);
+        assertSame(inTokyo, systemTime.withZone(tokyo));
+        assertSame(systemTime, inTokyo.withZone(ZoneId.of("UTC")));
+        assertNotSame(inTokyo, new SystemTime(ZoneId.of("UTC")).withZone(tokyo));
+    }
+
     @Test
     void testInstant() {
         SystemTime systemTime = new SystemTime();
@@ -66,6 +83,35 @@ class SystemTimeTest {
         assertTrue(!actual.isBefore(before) && !actual.isAfter(after));
     }
 
+    @Test
+    void testMillis() {
+        SystemTime systemTime = new SystemTime();
+        long before = System.currentTimeMillis();
+        long actual = systemTime.millis();
+        long after = System.currentTimeMillis();
+        assertTrue(actual >= before && actual <= after);
+    }
+
+    @Test
+    void testEpochMicrosAndNanos() {
+        SystemTime systemTime = new SystemTime();
+        long beforeMillis = System.currentTimeMillis();
+        long micros = systemTime.epochMicros();
+        long nanos = systemTime.epochNanos();
+        long afterMillis = System.currentTimeMillis();
+        assertTrue(micros >= beforeMillis * 1_000L && micros <= afterMillis * 1_000L);
+        assertTrue(nanos >= beforeMillis * 1_000_000L && nanos <= afterMillis * 1_000_000L);
+    }
+
+    @Test
+    void testNanoTime() {
+        SystemTime systemTime = new SystemTime();
+        long before = System.nanoTime();
+        long actual = systemTime.nanoTime();
+        long after = System.nanoTime();
+        assertTrue(actual - before >= 0 && after - actual >= 0);
+    }
+
     @Test
     void testSleep() throws InterruptedException {
         SystemTime systemTime = new SystemTime();
@@ -75,6 +121,66 @@ class SystemTimeTest {
         assertTrue(end - start >= 100);
     }
 
+    @Test
+    void testSleepNanos() throws InterruptedException {
+        SystemTime systemTime = new SystemTime();
+        long sleepNanos = TimeUnit.MICROSECONDS.toNanos(500);
+        long start = System.nanoTime();
+        systemTime.sleepNanos(sleepNanos);
+        assertTrue(System.nanoTime() - start >= sleepNanos);
+    }
+
+    @Test
+    void testSleepNanosWithoutSpinning() throws InterruptedException {
+        SystemTime systemTime = new SystemTime(ZoneId.of("UTC"), 0);
+        long sleepNanos = TimeUnit.MILLISECONDS.toNanos(2);
+        long start = System.nanoTime();
+        systemTime.sleepNanos(sleepNanos);
+        assertTrue(System.nanoTime() - start >= sleepNanos);
+    }
+
+    @Test
+    void testSleepNanosInterrupted() {
+        SystemTime systemTime = new SystemTime();
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> systemTime.sleepNanos(TimeUnit.SECONDS.toNanos(10)));
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    void testSpinThreshold() {
+        assertEquals(SystemTime.DEFAULT_SPIN_THRESHOLD_NANOS, new SystemTime().getSpinThresholdNanos());
+        SystemTime systemTime = new SystemTime(ZoneId.of("UTC"), 1_000L);
+        assertEquals(1_000L, systemTime.getSpinThresholdNanos());
+        assertEquals(1_000L, systemTime.withZone(ZoneId.of("Asia/Tokyo")).getSpinThresholdNanos());
+        assertNotEquals(new SystemTime(ZoneId.of("UTC")), systemTime);
+        assertThrows(IllegalArgumentException.class, () -> new SystemTime(ZoneId.of("UTC"), -1L));
+    }
+
+    @Test
+    void testDelay() throws Exception {
+        SystemTime systemTime = new SystemTime();
+        long start = System.nanoTime();
+        systemTime.delay(50).get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 50);
+    }
+
+    @Test
+    void testDelayNotPositiveCompletesImmediately() {
+        SystemTime systemTime = new SystemTime();
+        assertTrue(systemTime.delay(0).isDone());
+        assertTrue(systemTime.delay(-1).isDone());
+    }
+
+    @Test
+    void testCancelDelay() {
+        SystemTime systemTime = new SystemTime();
+        CompletableFuture<Void> delay = systemTime.delay(TimeUnit.HOURS.toMillis(1));
+        assertTrue(delay.cancel(false));
+        assertTrue(delay.isCancelled());
+    }
+
     @Test
     void testEqualsAndHashCode_sameZone() {
         ZoneId zone = ZoneId.of("UTC");
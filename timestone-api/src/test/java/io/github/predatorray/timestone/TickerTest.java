@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickerTest {
+
+    /**
+     * Records the ticks, the times at which they were handled, and simulates slow handlers.
+     */
+    private static class Recorder implements Ticker.TickHandler {
+
+        final List<String> ticks = new ArrayList<>();
+        final List<Long> times = new ArrayList<>();
+
+        private final FakeTime time;
+        private final Ticker ticker;
+        private final int maxTicks;
+        private final long slowTick;
+        private final Duration slowness;
+
+        Recorder(FakeTime time, Ticker ticker, int maxTicks, long slowTick, Duration slowness) {
+            this.time = time;
+            this.ticker = ticker;
+            this.maxTicks = maxTicks;
+            this.slowTick = slowTick;
+            this.slowness = slowness;
+        }
+
+        @Override
+        public void onTick(long tick, long count) {
+            ticks.add(tick + "x" + count);
+            times.add(time.millis());
+            if (tick == slowTick) {
+                time.advance(slowness);
+            }
+            if (ticks.size() == maxTicks) {
+                ticker.stop();
+            }
+        }
+    }
+
+    @Test
+    void testNoDriftWithSlowHandler() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.BURST);
+        List<Long> times = new ArrayList<>();
+        ticker.run((tick, count) -> {
+            times.add(time.millis());
+            time.advance(Duration.ofMillis(30));
+            if (tick == 5) {
+                ticker.stop();
+            }
+        });
+        assertEquals(Arrays.asList(100L, 200L, 300L, 400L, 500L), times);
+    }
+
+    @Test
+    void testBurst() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.BURST);
+        Recorder recorder = new Recorder(time, ticker, 6, 1, Duration.ofMillis(350));
+        ticker.run(recorder);
+        assertEquals(Arrays.asList("1x1", "2x1", "3x1", "4x1", "5x1", "6x1"), recorder.ticks);
+        assertEquals(Arrays.asList(100L, 450L, 450L, 450L, 500L, 600L), recorder.times);
+    }
+
+    @Test
+    void testSkip() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.SKIP);
+        Recorder recorder = new Recorder(time, ticker, 4, 1, Duration.ofMillis(350));
+        ticker.run(recorder);
+        assertEquals(Arrays.asList("1x1", "4x1", "5x1", "6x1"), recorder.ticks);
+        assertEquals(Arrays.asList(100L, 450L, 500L, 600L), recorder.times);
+    }
+
+    @Test
+    void testCoalesce() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.COALESCE);
+        Recorder recorder = new Recorder(time, ticker, 4, 1, Duration.ofMillis(350));
+        ticker.run(recorder);
+        assertEquals(Arrays.asList("1x1", "4x3", "5x1", "6x1"), recorder.ticks);
+        assertEquals(Arrays.asList(100L, 450L, 500L, 600L), recorder.times);
+    }
+
+    @Test
+    void testStartAsynchronously() {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.COALESCE);
+        List<String> ticks = new ArrayList<>();
+        CompletableFuture<Void> completion = ticker.start((tick, count) -> ticks.add(tick + "x" + count));
+
+        time.advance(Duration.ofMillis(99));
+        assertTrue(ticks.isEmpty());
+        time.advance(Duration.ofMillis(1));
+        assertEquals(Arrays.asList("1x1"), ticks);
+        time.advance(Duration.ofMillis(350));
+        assertEquals(Arrays.asList("1x1", "4x3"), ticks);
+        time.advance(Duration.ofMillis(50));
+        assertEquals(Arrays.asList("1x1", "4x3", "5x1"), ticks);
+
+        ticker.stop();
+        assertTrue(completion.isDone());
+        assertEquals(0, time.pendingDelays());
+        time.advance(Duration.ofSeconds(1));
+        assertEquals(3, ticks.size());
+    }
+
+    @Test
+    void testCancellingTheFutureStopsTheTicker() {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.BURST);
+        List<Long> ticks = new ArrayList<>();
+        CompletableFuture<Void> completion = ticker.start((tick, count) -> ticks.add(tick));
+        time.advance(Duration.ofMillis(100));
+        assertTrue(completion.cancel(false));
+        assertTrue(ticker.isStopped());
+        time.advance(Duration.ofSeconds(1));
+        assertEquals(Arrays.asList(1L), ticks);
+    }
+
+    @Test
+    void testHandlerExceptionCompletesTheFuture() {
+        FakeTime time = new FakeTime();
+        Ticker ticker = new Ticker(time, Duration.ofMillis(100), Ticker.CatchUpPolicy.BURST);
+        CompletableFuture<Void> completion = ticker.start((tick, count) -> {
+            throw new IllegalStateException();
+        });
+        time.advance(Duration.ofMillis(100));
+        assertTrue(completion.isCompletedExceptionally());
+        assertTrue(ticker.isStopped());
+    }
+
+    @Test
+    void testTickerRunsOnlyOnce() {
+        Ticker ticker = new Ticker(new FakeTime(), Duration.ofMillis(100), Ticker.CatchUpPolicy.SKIP);
+        ticker.start((tick, count) -> {});
+        assertThrows(IllegalStateException.class, () -> ticker.start((tick, count) -> {}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Ticker(new FakeTime(), Duration.ZERO, Ticker.CatchUpPolicy.SKIP));
+    }
+}
@@ -4,10 +4,16 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TimeTest {
 
@@ -22,6 +28,43 @@ class TimeTest {
     void testDefaultMillis() {
         long epochMillis = 1752354427775L;
         Instant instant = Instant.ofEpochMilli(epochMillis);
+        Time implementation = fixedTime(instant);
+        assertEquals(epochMillis, implementation.millis());
+    }
+
+    @Test
+    void testDefaultEpochMicrosAndNanos() {
+        Instant instant = Instant.ofEpochSecond(1752354427L, 775123456L);
+        Time implementation = fixedTime(instant);
+        assertEquals(1752354427775123L, implementation.epochMicros());
+        assertEquals(1752354427775123456L, implementation.epochNanos());
+    }
+
+    @Test
+    void testDefaultNanoTime() {
+        Instant instant = Instant.ofEpochSecond(1752354427L, 775123456L);
+        Time implementation = fixedTime(instant);
+        assertEquals(1752354427775123456L, implementation.nanoTime());
+    }
+
+    @Test
+    void testDefaultEpochNanosOverflow() {
+        Time implementation = fixedTime(Instant.MAX);
+        assertThrows(ArithmeticException.class, implementation::epochNanos);
+    }
+
+    @Test
+    void testDefaultDelay() throws Exception {
+        Time implementation = fixedTime(Instant.EPOCH);
+        long start = System.nanoTime();
+        implementation.delay(20).get(10, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(implementation.delay(0).isDone());
+    }
+
+    @Test
+    void testDefaultSleepNanosRoundsUpToMillis() throws InterruptedException {
+        List<Long> sleeps = new ArrayList<>();
         Time implementation = new Time() {
             @Override
             public ZoneId getZone() {
@@ -33,6 +76,35 @@ class TimeTest {
                 throw new UnsupportedOperationException();
             }
 
+            @Override
+            public Instant instant() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void sleep(long millis) {
+                sleeps.add(millis);
+            }
+        };
+        implementation.sleepNanos(1);
+        implementation.sleepNanos(1_000_000);
+        implementation.sleepNanos(1_000_001);
+        implementation.sleepNanos(0);
+        assertEquals(Arrays.asList(1L, 1L, 2L, 0L), sleeps);
+    }
+
+    private static Time fixedTime(Instant instant) {
+        return new Time() {
+            @Override
+            public ZoneId getZone() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Time withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
             @Override
             public Instant instant() {
                 return instant;
@@ -43,6 +115,5 @@ class TimeTest {
                 throw new UnsupportedOperationException();
             }
         };
-        assertEquals(epochMillis, implementation.millis());
     }
 }
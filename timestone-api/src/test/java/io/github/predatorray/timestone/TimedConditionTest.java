@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedConditionTest {
+
+    @Test
+    void testAwaitNanosTimesOutWhenTimeIsAdvanced() throws Exception {
+        FakeTime time = new FakeTime();
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(time, lock);
+        CompletableFuture<Long> remaining = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            try {
+                remaining.complete(condition.awaitNanos(TimeUnit.MILLISECONDS.toNanos(100)));
+            } catch (InterruptedException e) {
+                remaining.completeExceptionally(e);
+            } finally {
+                lock.unlock();
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        time.advance(Duration.ofMillis(150));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(-50), remaining.get(10, TimeUnit.SECONDS));
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testAwaitReturnsWhenSignalled() throws Exception {
+        FakeTime time = new FakeTime();
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(time, lock);
+        CompletableFuture<Boolean> signalled = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            try {
+                signalled.complete(condition.await(1, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                signalled.completeExceptionally(e);
+            } finally {
+                lock.unlock();
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        time.advance(Duration.ofMillis(400));
+        assertFalse(signalled.isDone());
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+        assertTrue(signalled.get(10, TimeUnit.SECONDS));
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testTimeoutWakesOnlyTheTimedOutWaiterWhileLockIsHeld() throws Exception {
+        FakeTime time = new FakeTime();
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(time, lock);
+        CompletableFuture<Boolean> shortWait = awaitInBackground(lock, condition, Duration.ofMillis(100));
+        CompletableFuture<Boolean> longWait = awaitInBackground(lock, condition, Duration.ofMillis(500));
+
+        lock.lock();
+        try {
+            time.advance(Duration.ofMillis(100));
+        } finally {
+            lock.unlock();
+        }
+        assertFalse(shortWait.get(10, TimeUnit.SECONDS));
+        assertFalse(longWait.isDone());
+
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+        assertTrue(longWait.get(10, TimeUnit.SECONDS));
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testAwaitInterrupted() throws Exception {
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(new FakeTime(), lock);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            try {
+                condition.await(1, TimeUnit.SECONDS);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(lock.isHeldByCurrentThread());
+            } finally {
+                lock.unlock();
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        waiter.interrupt();
+        assertTrue(interrupted.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testLockMustBeHeld() {
+        TimedCondition condition = new TimedCondition(new FakeTime(), new ReentrantLock());
+        assertThrows(IllegalMonitorStateException.class, condition::signal);
+        assertThrows(IllegalMonitorStateException.class, () -> condition.awaitNanos(1));
+    }
+
+    private static CompletableFuture<Boolean> awaitInBackground(
+            ReentrantLock lock, TimedCondition condition, Duration timeout) {
+        CompletableFuture<Boolean> signalled = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            try {
+                signalled.complete(condition.await(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                signalled.completeExceptionally(e);
+            } finally {
+                lock.unlock();
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        return signalled;
+    }
+
+    @Test
+    void testAwaitUntilPastDeadline() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(time, lock);
+        lock.lock();
+        try {
+            assertFalse(condition.awaitUntil(new Date(time.millis())));
+            assertTrue(condition.awaitNanos(0) <= 0);
+        } finally {
+            lock.unlock();
+        }
+        assertEquals(0, time.pendingDelays());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedCountDownLatchTest {
+
+    private static CompletableFuture<Boolean> awaitInBackground(TimedCountDownLatch latch, Duration timeout) {
+        CompletableFuture<Boolean> released = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                released.complete(latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                released.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        return released;
+    }
+
+    @Test
+    void testTimedAwaitTimesOutWhenTimeIsAdvanced() throws Exception {
+        FakeTime time = new FakeTime();
+        TimedCountDownLatch latch = new TimedCountDownLatch(time, 1);
+        CompletableFuture<Boolean> released = awaitInBackground(latch, Duration.ofMinutes(1));
+        time.advance(Duration.ofSeconds(59));
+        assertFalse(released.isDone());
+        time.advance(Duration.ofSeconds(1));
+        assertFalse(released.get(10, TimeUnit.SECONDS));
+        assertEquals(1, latch.getCount());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testTimedAwaitReturnsWhenCountReachesZero() throws Exception {
+        FakeTime time = new FakeTime();
+        TimedCountDownLatch latch = new TimedCountDownLatch(time, 2);
+        CompletableFuture<Boolean> released = awaitInBackground(latch, Duration.ofMinutes(1));
+        latch.countDown();
+        assertEquals(1, latch.getCount());
+        latch.countDown();
+        assertTrue(released.get(10, TimeUnit.SECONDS));
+        assertEquals(0, latch.getCount());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testAwaitWithoutWaiting() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        TimedCountDownLatch latch = new TimedCountDownLatch(time, 1);
+        assertFalse(latch.await(0, TimeUnit.SECONDS));
+        latch.countDown();
+        latch.countDown();
+        assertEquals(0, latch.getCount());
+        assertTrue(latch.await(0, TimeUnit.SECONDS));
+        latch.await();
+    }
+
+    @Test
+    void testNegativeCount() {
+        assertThrows(IllegalArgumentException.class, () -> new TimedCountDownLatch(new FakeTime(), -1));
+    }
+}
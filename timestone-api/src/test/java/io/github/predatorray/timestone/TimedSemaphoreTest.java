@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedSemaphoreTest {
+
+    private static CompletableFuture<Boolean> tryAcquireInBackground(
+            TimedSemaphore semaphore, int permits, Duration timeout) {
+        CompletableFuture<Boolean> acquired = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                acquired.complete(semaphore.tryAcquire(permits, timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                acquired.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        return acquired;
+    }
+
+    @Test
+    void testTryAcquireTimesOutWhenTimeIsAdvanced() throws Exception {
+        FakeTime time = new FakeTime();
+        TimedSemaphore semaphore = new TimedSemaphore(time, 1);
+        CompletableFuture<Boolean> acquired = tryAcquireInBackground(semaphore, 2, Duration.ofSeconds(10));
+        time.advance(Duration.ofMillis(9999));
+        assertFalse(acquired.isDone());
+        time.advance(Duration.ofMillis(1));
+        assertFalse(acquired.get(10, TimeUnit.SECONDS));
+        assertEquals(1, semaphore.availablePermits());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testTryAcquireReturnsWhenPermitsAreReleased() throws Exception {
+        FakeTime time = new FakeTime();
+        TimedSemaphore semaphore = new TimedSemaphore(time, 0);
+        CompletableFuture<Boolean> acquired = tryAcquireInBackground(semaphore, 2, Duration.ofSeconds(10));
+        semaphore.release();
+        time.advance(Duration.ofSeconds(5));
+        assertFalse(acquired.isDone());
+        semaphore.release();
+        assertTrue(acquired.get(10, TimeUnit.SECONDS));
+        assertEquals(0, semaphore.availablePermits());
+        assertEquals(0, time.pendingDelays());
+    }
+
+    @Test
+    void testAcquireAndReleaseWithoutWaiting() throws InterruptedException {
+        TimedSemaphore semaphore = new TimedSemaphore(new FakeTime(), 2);
+        assertTrue(semaphore.tryAcquire());
+        semaphore.acquire();
+        assertFalse(semaphore.tryAcquire());
+        assertFalse(semaphore.tryAcquire(0, TimeUnit.SECONDS));
+        semaphore.release(3);
+        assertTrue(semaphore.tryAcquire(3));
+        assertEquals(0, semaphore.availablePermits());
+        assertThrows(IllegalArgumentException.class, () -> semaphore.release(-1));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void testInvalidArguments() {
+        FakeTime time = new FakeTime();
+        assertThrows(NullPointerException.class, () -> new TokenBucketRateLimiter(null, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(time, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(time, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(time, 1.0, 0));
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(time, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.tryAcquire(0));
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.acquire(-1));
+    }
+
+    @Test
+    void testDefaultCapacityIsOneSecond() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(new FakeTime(), 100.0);
+        assertEquals(100.0, rateLimiter.getRate());
+        assertEquals(100, rateLimiter.getCapacity());
+        assertEquals(1, new TokenBucketRateLimiter(new FakeTime(), 0.5).getCapacity());
+    }
+
+    @Test
+    void testTryAcquireUpToCapacityAndRefill() {
+        FakeTime time = new FakeTime();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(time, 10.0, 5);
+        assertEquals(5, rateLimiter.availablePermits());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire());
+        }
+        assertFalse(rateLimiter.tryAcquire());
+        assertEquals(0, rateLimiter.availablePermits());
+
+        time.advance(Duration.ofMillis(99));
+        assertFalse(rateLimiter.tryAcquire());
+        time.advance(Duration.ofMillis(1));
+        assertTrue(rateLimiter.tryAcquire());
+        assertFalse(rateLimiter.tryAcquire());
+
+        time.advance(Duration.ofMinutes(1));
+        assertEquals(5, rateLimiter.availablePermits());
+        assertTrue(rateLimiter.tryAcquire(5));
+        assertFalse(rateLimiter.tryAcquire(1));
+    }
+
+    @Test
+    void testTryAcquireMoreThanCapacityFails() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(new FakeTime(), 10.0, 5);
+        assertFalse(rateLimiter.tryAcquire(6));
+        assertEquals(5, rateLimiter.availablePermits());
+    }
+
+    @Test
+    void testTryAcquireWithSaturatedCostOnPartlyDrainedBucketFails() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(new FakeTime(), 0.001, 5);
+        assertTrue(rateLimiter.tryAcquire());
+        assertFalse(rateLimiter.tryAcquire(Integer.MAX_VALUE));
+        assertEquals(4, rateLimiter.availablePermits());
+    }
+
+    @Test
+    void testAcquireWithSaturatedCostOnPartlyDrainedBucketWaits() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(time, 0.001, 5);
+        assertEquals(0, rateLimiter.acquire(5));
+        long capacityNanos = TimeUnit.SECONDS.toNanos(5000);
+        assertEquals(Long.MAX_VALUE - capacityNanos, rateLimiter.acquire(Integer.MAX_VALUE - 1));
+        assertEquals(0, rateLimiter.availablePermits());
+        assertFalse(rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void testAcquireWaitsThroughTime() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(time, 10.0, 2);
+        assertEquals(0, rateLimiter.acquire(2));
+        assertEquals(0, time.millis());
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rateLimiter.acquire());
+        assertEquals(100, time.millis());
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.acquire(5));
+        assertEquals(600, time.millis());
+        assertEquals(0, rateLimiter.availablePermits());
+    }
+
+    @Test
+    void testConcurrentTryAcquireNeverExceedsCapacity() throws InterruptedException {
+        FakeTime time = new FakeTime();
+        int capacity = 1000;
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(time, 1.0, capacity);
+        AtomicInteger acquired = new AtomicInteger();
+        int threadCount = 8;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < capacity; j++) {
+                    if (rateLimiter.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(capacity, acquired.get());
+    }
+}
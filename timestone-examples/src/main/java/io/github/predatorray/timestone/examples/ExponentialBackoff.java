@@ -30,6 +30,9 @@ import io.github.predatorray.timestone.Time;
  * An implementation of an exponential backoff strategy.
  * This class provides a way to manage retry delays that increase exponentially
  * with each failure, up to a maximum delay.
+ *
+ * <p>For a thread-safe backoff with jitter and asynchronous delays,
+ * use {@link io.github.predatorray.timestone.ExponentialBackoff} instead.
  */
 public class ExponentialBackoff {
 
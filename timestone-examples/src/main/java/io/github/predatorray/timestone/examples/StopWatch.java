@@ -32,6 +32,9 @@ import java.time.Instant;
 /**
  * A simple stopwatch implementation that measures elapsed time.
  * It uses a provided {@link Time} instance to get the current time.
+ *
+ * <p>For a thread-safe and allocation-free stopwatch with laps and splits,
+ * use {@link io.github.predatorray.timestone.StopWatch} instead.
  */
 public class StopWatch {
 
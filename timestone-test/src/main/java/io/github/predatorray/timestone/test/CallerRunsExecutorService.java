@@ -30,9 +30,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.AbstractExecutorService;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An {@link java.util.concurrent.ExecutorService} implementation where tasks are executed
@@ -45,13 +45,21 @@ import java.util.concurrent.TimeUnit;
  *
  * <p>When a task is submitted, it runs immediately in the thread that invokes {@code execute()}.
  * If the executor has been shut down, task submission will result in a {@link RejectedExecutionException}.
+ * An exception thrown by a task passed to {@code execute()} propagates to the caller, while the futures returned
+ * by the {@code submit()} methods capture it as usual.
+ *
+ * <p>The running tasks are tracked with an atomic counter, so that threads sharing the executor do not contend
+ * on a lock; the monitor is only used when a thread is {@linkplain #awaitTermination(long, TimeUnit) awaiting
+ * termination}.
  */
 public class CallerRunsExecutorService extends AbstractExecutorService {
 
     private final Time time;
 
-    private final Object runningTasksMonitor = new Object();
-    private int runningTasks = 0;
+    private final AtomicInteger runningTasks = new AtomicInteger();
+
+    private final Object terminationMonitor = new Object();
+    private final AtomicInteger terminationWaiters = new AtomicInteger();
 
     private volatile boolean shutdown = false;
 
@@ -80,19 +88,17 @@ public class CallerRunsExecutorService extends AbstractExecutorService {
      */
     @Override
     public void execute(Runnable command) {
+        Objects.requireNonNull(command);
         rejectIfShutdown();
 
-        FutureTask<Void> runningTask = new FutureTask<>(command, null);
-        synchronized (runningTasksMonitor) {
-            runningTasks++;
-            runningTasksMonitor.notifyAll();
-        }
+        runningTasks.incrementAndGet();
         try {
-            runningTask.run();
+            command.run();
         } finally {
-            synchronized (runningTasksMonitor) {
-                runningTasks--;
-                runningTasksMonitor.notifyAll();
+            if (runningTasks.decrementAndGet() == 0 && terminationWaiters.get() > 0) {
+                synchronized (terminationMonitor) {
+                    terminationMonitor.notifyAll();
+                }
             }
         }
     }
@@ -128,22 +134,28 @@ public class CallerRunsExecutorService extends AbstractExecutorService {
 
     @Override
     public boolean isTerminated() {
-        synchronized (runningTasksMonitor) {
-            return isShutdown() && runningTasks == 0;
-        }
+        return isShutdown() && runningTasks.get() == 0;
     }
 
     @Override
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         long timeoutMsLeft = unit.toMillis(timeout);
-        synchronized (runningTasksMonitor) {
-            while (runningTasks > 0 && timeoutMsLeft > 0) {
-                long startTime = time.millis();
-                runningTasksMonitor.wait(timeoutMsLeft);
-                long elapsedTime = time.millis() - startTime;
-                timeoutMsLeft -= elapsedTime;
+        if (runningTasks.get() == 0) {
+            return true;
+        }
+        terminationWaiters.incrementAndGet();
+        try {
+            synchronized (terminationMonitor) {
+                while (runningTasks.get() > 0 && timeoutMsLeft > 0) {
+                    long startTime = time.millis();
+                    terminationMonitor.wait(timeoutMsLeft);
+                    long elapsedTime = time.millis() - startTime;
+                    timeoutMsLeft -= elapsedTime;
+                }
+                return runningTasks.get() == 0;
             }
-            return runningTasks == 0;
+        } finally {
+            terminationWaiters.decrementAndGet();
         }
     }
 }
@@ -0,0 +1,378 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone.test;
+
+import io.github.predatorray.timestone.Time;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} that queues the submitted tasks until a test runs them
+ * explicitly, one at a time with {@link #runNext()}, or in batches with {@link #runAll()} and
+ * {@link #runUntilIdle()}.
+ *
+ * <p>Tasks run on the thread calling these methods, in the order they were submitted, so that the interleaving
+ * of asynchronous stages is fully determined by the test and reproducible, without any thread pool.
+ * An exception thrown by a task passed to {@code execute()} propagates to the thread running it,
+ * and the remaining tasks stay queued.
+ *
+ * <p>As with a {@link java.util.concurrent.ThreadPoolExecutor}, the tasks queued before {@link #shutdown()} can
+ * still be run, and the executor terminates once they all have. {@link #awaitTermination(long, TimeUnit)}
+ * measures its timeout with {@link Time#delay(long)}, so that it times out as a {@link MutableTime} is advanced.
+ *
+ * <p>Since no other thread runs the queued tasks, {@code invokeAll} and {@code invokeAny} queue the given tasks and
+ * then run the queue on the calling thread, including the tasks queued before them, until the given tasks have
+ * completed. Their timeouts are measured with the {@link Time} between two tasks, so that they time out when
+ * the tasks advance a {@code MutableTime} past the deadline.
+ */
+public class ManualExecutorService extends AbstractExecutorService {
+
+    private final Time time;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private int runningTasks = 0;
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new instance using the system time.
+     */
+    public ManualExecutorService() {
+        this(Time.SYSTEM);
+    }
+
+    /**
+     * Creates a new instance using a provided {@link Time} instance.
+     *
+     * @param time the {@code Time} source used for measuring the timeout of {@code awaitTermination}
+     * @throws NullPointerException if {@code time} is null
+     */
+    public ManualExecutorService(Time time) {
+        this.time = Objects.requireNonNull(time);
+    }
+
+    /**
+     * Queues the given command until it is run by the test.
+     *
+     * @param command the runnable task
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor service is shutdown");
+            }
+            queue.add(command);
+        }
+    }
+
+    /**
+     * Runs the oldest queued task, if any, in the calling thread.
+     *
+     * @return {@code true} if a task was run, or {@code false} if the queue was empty
+     */
+    public boolean runNext() {
+        Runnable task;
+        synchronized (lock) {
+            task = queue.poll();
+            if (task == null) {
+                return false;
+            }
+            runningTasks++;
+        }
+        try {
+            task.run();
+        } finally {
+            synchronized (lock) {
+                runningTasks--;
+                lock.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the tasks queued at the time of the call. The tasks they submit stay queued.
+     *
+     * @return the number of tasks run
+     */
+    public int runAll() {
+        int count;
+        synchronized (lock) {
+            count = queue.size();
+        }
+        int run = 0;
+        while (run < count && runNext()) {
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Runs the queued tasks, and the tasks they submit, until the queue is empty.
+     *
+     * @return the number of tasks run
+     */
+    public int runUntilIdle() {
+        int run = 0;
+        while (runNext()) {
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Returns the number of queued tasks.
+     *
+     * @return the number of tasks waiting to be run
+     */
+    public int getQueuedTaskCount() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Returns whether no task is queued.
+     *
+     * @return {@code true} if there is no task waiting to be run
+     */
+    public boolean isIdle() {
+        return getQueuedTaskCount() == 0;
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        return invokeAll(tasks, false, 0);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return invokeAll(tasks, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        try {
+            return invokeAny(tasks, false, 0);
+        } catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return invokeAny(tasks, true, unit.toNanos(timeout));
+    }
+
+    private <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, boolean timed, long timeoutNanos)
+            throws InterruptedException {
+        List<Future<T>> futures = queueAll(tasks);
+        long start = time.nanoTime();
+        try {
+            for (Future<T> future : futures) {
+                if (!runUntilDone(future, timed, start, timeoutNanos)) {
+                    break;
+                }
+            }
+            return futures;
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    private <T> T invokeAny(Collection<? extends Callable<T>> tasks, boolean timed, long timeoutNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("tasks must not be empty");
+        }
+        List<Future<T>> futures = queueAll(tasks);
+        long start = time.nanoTime();
+        try {
+            ExecutionException failure = null;
+            for (Future<T> future : futures) {
+                if (!runUntilDone(future, timed, start, timeoutNanos)) {
+                    if (timed && time.nanoTime() - start >= timeoutNanos) {
+                        throw new TimeoutException();
+                    }
+                    break;
+                }
+                try {
+                    return future.get();
+                } catch (ExecutionException e) {
+                    failure = e;
+                } catch (CancellationException e) {
+                    failure = new ExecutionException(e);
+                }
+            }
+            throw failure != null ? failure : new ExecutionException("No task completed", null);
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    private <T> List<Future<T>> queueAll(Collection<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                RunnableFuture<T> future = newTaskFor(Objects.requireNonNull(task));
+                futures.add(future);
+                execute(future);
+            }
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        }
+        return futures;
+    }
+
+    /**
+     * Runs the queued tasks until the future is done.
+     *
+     * @return {@code false} if the timeout elapsed, or the queue ran empty, before the future was done
+     */
+    private boolean runUntilDone(Future<?> future, boolean timed, long start, long timeoutNanos)
+            throws InterruptedException {
+        while (!future.isDone()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (timed && time.nanoTime() - start >= timeoutNanos) {
+                return false;
+            }
+            if (!runNext()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Initiates an immediate shutdown, and removes the queued tasks without running them.
+     *
+     * @return the tasks that were queued
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (lock) {
+            shutdown = true;
+            List<Runnable> pending = new ArrayList<>(queue);
+            queue.clear();
+            lock.notifyAll();
+            return pending;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (lock) {
+            return isTerminatedLocked();
+        }
+    }
+
+    private boolean isTerminatedLocked() {
+        return shutdown && queue.isEmpty() && runningTasks == 0;
+    }
+
+    /**
+     * Blocks until the executor has terminated, the timeout elapses according to the {@link Time},
+     * or the current thread is interrupted. Since the queued tasks are only run when asked to, another thread must
+     * run them for this method to return {@code true} on a non-idle executor.
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (lock) {
+            if (isTerminatedLocked()) {
+                return true;
+            }
+        }
+        long timeoutNanos = unit.toNanos(timeout);
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+        long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+        if (TimeUnit.MILLISECONDS.toNanos(timeoutMillis) < timeoutNanos) {
+            timeoutMillis++;
+        }
+        CompletableFuture<Void> timer = time.delay(timeoutMillis);
+        timer.thenRun(() -> {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        });
+        try {
+            synchronized (lock) {
+                while (!isTerminatedLocked()) {
+                    if (timer.isDone()) {
+                        return false;
+                    }
+                    lock.wait();
+                }
+                return true;
+            }
+        } finally {
+            timer.cancel(false);
+        }
+    }
+}
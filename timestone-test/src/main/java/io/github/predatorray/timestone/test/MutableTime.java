@@ -25,12 +25,20 @@
 package io.github.predatorray.timestone.test;
 
 import io.github.predatorray.timestone.ClockTime;
+import io.github.predatorray.timestone.Timeout;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -45,6 +53,15 @@ import java.util.concurrent.atomic.AtomicLong;
  * Typical usage involves replacing calls to system time with {@code MutableTime}
  * in test environments, enabling deterministic and repeatable tests.
  * </p>
+ *
+ * <p>
+ * By default, {@link #sleep(long)} simply advances the time by the given duration.
+ * For multi-threaded tests, the time can instead be driven like a discrete-event simulation:
+ * once parties are {@linkplain #register() registered}, a sleeping thread blocks until its deadline is reached,
+ * and whenever all the registered parties are sleeping, or blocked in a timed wait through
+ * {@link #await(CompletableFuture)}, the time jumps straight to the earliest deadline among the sleepers and the
+ * {@linkplain #addDeadlineListener(long, MutableTimeListener) deadline listeners}.
+ * </p>
  */
 public class MutableTime extends ClockTime {
 
@@ -54,6 +71,14 @@ public class MutableTime extends ClockTime {
 
     private final CopyOnWriteArrayList<MutableTimeListener> listeners = new CopyOnWriteArrayList<>();
 
+    private final ConcurrentSkipListMap<DeadlineListener, Boolean> deadlineListeners = new ConcurrentSkipListMap<>();
+    private final AtomicLong deadlineListenerSequence = new AtomicLong();
+
+    private final Object simulationMonitor = new Object();
+    private int parties = 0;
+    private int sleeping = 0;
+    private Thread advancingThread = null;
+
     public MutableTime() {
         this(System.currentTimeMillis());
     }
@@ -86,12 +111,268 @@ public class MutableTime extends ClockTime {
         return Instant.ofEpochMilli(currentMillis.get());
     }
 
+    @Override
+    public long millis() {
+        return currentMillis.get();
+    }
+
+    @Override
+    public long epochMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(currentMillis.get());
+    }
+
+    @Override
+    public long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(currentMillis.get());
+    }
+
+    /**
+     * Returns the current time in nanoseconds.
+     *
+     * <p>
+     * Unlike {@link System#nanoTime()}, the value follows the mutable time
+     * and therefore moves backwards if the time is rewound.
+     * </p>
+     *
+     * @return the current time in nanoseconds
+     */
+    @Override
+    public long nanoTime() {
+        return TimeUnit.MILLISECONDS.toNanos(currentMillis.get());
+    }
+
+    /**
+     * Sleeps for the specified number of milliseconds in terms of this mutable time.
+     *
+     * <p>
+     * If no party is {@linkplain #register() registered}, the time is simply advanced by the given duration
+     * and the method returns immediately.
+     * Otherwise, the calling thread blocks until the time reaches its deadline.
+     * If all the registered parties are sleeping, the time jumps to the earliest pending deadline,
+     * waking up the sleepers in the order of their deadlines.
+     * A sleep called by a listener or a task while the time is jumping, i.e. on the thread advancing it,
+     * advances the time directly instead of blocking.
+     * </p>
+     *
+     * @param millis the length of time to sleep in milliseconds
+     * @throws InterruptedException if the current thread is interrupted before or while sleeping
+     */
     @Override
     public void sleep(long millis) throws InterruptedException {
         if (Thread.interrupted()) {
             throw new InterruptedException();
         }
-        this.advance(Duration.ofMillis(millis));
+        boolean simulated;
+        synchronized (simulationMonitor) {
+            simulated = parties > 0 && advancingThread != Thread.currentThread();
+        }
+        if (!simulated) {
+            this.advance(Duration.ofMillis(millis));
+        } else if (millis > 0) {
+            sleepUntil(currentMillis.get() + millis);
+        }
+    }
+
+    private void sleepUntil(long deadlineMillis) throws InterruptedException {
+        Sleeper sleeper = new Sleeper();
+        synchronized (simulationMonitor) {
+            sleeping++;
+        }
+        Timeout timeout = addDeadlineListener(deadlineMillis, sleeper);
+        try {
+            blockUntilAwake(sleeper);
+        } catch (InterruptedException e) {
+            timeout.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Blocks until the future completes, which is how the timed waits, e.g. the ones of
+     * {@link io.github.predatorray.timestone.TimedCondition}, block on this time.
+     *
+     * <p>
+     * If parties are {@linkplain #register() registered}, the calling thread counts as sleeping until the future
+     * completes, so that, like a {@linkplain #sleep(long) sleep}, the wait lets the time jump to the earliest
+     * pending deadline, e.g. the one of the {@linkplain #delay(long) delay} measuring the timeout of the wait,
+     * once all the registered parties are sleeping or waiting. The thread stops counting as sleeping as soon as
+     * the future completes, on the thread completing it.
+     * A wait called by a listener or a task while the time is jumping, i.e. on the thread advancing it,
+     * advances the time from deadline to deadline until the future completes instead of blocking.
+     * </p>
+     *
+     * @param future the future whose completion, normal or not, ends the wait
+     * @throws InterruptedException if the current thread is interrupted before or while waiting
+     */
+    @Override
+    public void await(CompletableFuture<?> future) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        boolean advancing;
+        boolean simulated;
+        synchronized (simulationMonitor) {
+            advancing = advancingThread == Thread.currentThread();
+            simulated = parties > 0 && !advancing;
+        }
+        if (simulated) {
+            Sleeper sleeper = new Sleeper();
+            synchronized (simulationMonitor) {
+                sleeping++;
+            }
+            future.whenComplete((result, failure) -> sleeper.wakeUp());
+            blockUntilAwake(sleeper);
+            return;
+        }
+        if (advancing) {
+            advanceUntilDone(future);
+        }
+        try {
+            future.get();
+        } catch (ExecutionException | CancellationException ignored) {
+            // Completed exceptionally, which also ends the wait
+        }
+    }
+
+    private void advanceUntilDone(CompletableFuture<?> future) {
+        while (!future.isDone()) {
+            Map.Entry<DeadlineListener, Boolean> earliest = deadlineListeners.firstEntry();
+            if (earliest == null) {
+                return;
+            }
+            long deadlineMillis = earliest.getKey().deadlineMillis;
+            long now = currentMillis.get();
+            if (deadlineMillis > now) {
+                this.advance(Duration.ofMillis(deadlineMillis - now));
+            } else {
+                notifyDeadlineListeners(now);
+            }
+        }
+    }
+
+    /**
+     * Waits until the sleeper, already counted as sleeping, is woken up, after jumping to the earliest deadline
+     * if all the parties are sleeping. If interrupted before being woken up, the sleeper stops counting as sleeping.
+     */
+    private void blockUntilAwake(Sleeper sleeper) throws InterruptedException {
+        advanceWhileAllPartiesSleep();
+        synchronized (simulationMonitor) {
+            try {
+                while (!sleeper.awake) {
+                    simulationMonitor.wait();
+                }
+            } catch (InterruptedException e) {
+                if (sleeper.wakeUp()) {
+                    throw e;
+                }
+                // Woken up concurrently, so the sleep is regarded as completed
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Jumps to the earliest deadline as long as all the parties are sleeping.
+     * The target of each jump is chosen under the monitor, but the time is advanced after releasing it,
+     * by at most one thread at a time, so that the listeners are never notified while holding the monitor.
+     */
+    private void advanceWhileAllPartiesSleep() {
+        while (true) {
+            long deadlineMillis;
+            synchronized (simulationMonitor) {
+                if (advancingThread != null || parties == 0 || sleeping < parties) {
+                    return;
+                }
+                Map.Entry<DeadlineListener, Boolean> earliest = deadlineListeners.firstEntry();
+                if (earliest == null) {
+                    return;
+                }
+                deadlineMillis = earliest.getKey().deadlineMillis;
+                advancingThread = Thread.currentThread();
+            }
+            try {
+                long now = currentMillis.get();
+                if (deadlineMillis > now) {
+                    this.advance(Duration.ofMillis(deadlineMillis - now));
+                } else {
+                    notifyDeadlineListeners(now);
+                }
+            } finally {
+                synchronized (simulationMonitor) {
+                    advancingThread = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a future that completes once the time has been advanced by the specified number of milliseconds.
+     *
+     * <p>
+     * The future is completed by the thread that advances the time past the deadline.
+     * Cancelling the future cancels the underlying {@linkplain #addDeadlineListener(long, MutableTimeListener)
+     * deadline listener}. In the discrete-event simulation mode, the deadline is taken into account
+     * when the time jumps to the earliest pending deadline.
+     * </p>
+     *
+     * @param millis the length of the delay in milliseconds; a delay that is not positive completes immediately
+     * @return a future that completes after the delay
+     */
+    @Override
+    public CompletableFuture<Void> delay(long millis) {
+        if (millis <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        DelayFuture future = new DelayFuture();
+        future.timeout = addDeadlineListener(currentMillis.get() + millis, newTimeMillis -> future.complete(null));
+        return future;
+    }
+
+    /**
+     * Registers a party taking part in the discrete-event simulation.
+     *
+     * <p>
+     * While at least one party is registered, {@link #sleep(long)} blocks until the time reaches the deadline
+     * instead of advancing the time, and the time jumps to the earliest deadline as soon as the number of sleeping
+     * or {@linkplain #await(CompletableFuture) waiting} threads reaches the number of registered parties.
+     * Every thread that sleeps or waits on this time should therefore be registered, typically before it is started,
+     * and {@linkplain #deregister() deregistered} when it finishes.
+     * </p>
+     */
+    public void register() {
+        synchronized (simulationMonitor) {
+            parties++;
+        }
+    }
+
+    /**
+     * Deregisters a party previously {@linkplain #register() registered}.
+     *
+     * <p>
+     * If all the remaining parties are sleeping, the time jumps to the earliest deadline among them.
+     * </p>
+     *
+     * @throws IllegalStateException if no party is registered
+     */
+    public void deregister() {
+        synchronized (simulationMonitor) {
+            if (parties == 0) {
+                throw new IllegalStateException("No party is registered");
+            }
+            parties--;
+        }
+        advanceWhileAllPartiesSleep();
+    }
+
+    /**
+     * Returns the number of parties currently registered in the discrete-event simulation.
+     *
+     * @return the number of registered parties
+     */
+    public int getRegisteredParties() {
+        synchronized (simulationMonitor) {
+            return parties;
+        }
     }
     /**
      * Advances the current time by the specified duration.
@@ -119,6 +400,9 @@ public class MutableTime extends ClockTime {
                 // This is a design choice to ensure that one listener's failure does not affect others
             }
         }
+        if (!deadlineListeners.isEmpty()) {
+            notifyDeadlineListeners(now);
+        }
     }
 
     /**
@@ -149,4 +433,141 @@ public class MutableTime extends ClockTime {
     public void removeListener(MutableTimeListener listener) {
         listeners.remove(listener);
     }
+
+    /**
+     * Registers a listener to be notified once, when the time reaches the specified deadline.
+     *
+     * <p>
+     * Unlike the listeners registered by {@link #addListener(MutableTimeListener)}, which are notified of every
+     * change, deadline listeners are kept in an index ordered by their deadlines, so that advancing the time only
+     * visits the listeners whose deadlines it crosses. Registering and cancelling a deadline listener
+     * takes logarithmic time in the number of pending deadline listeners.
+     * Listeners with the same deadline are notified in the order of registration.
+     * If the deadline has already been reached, the listener is notified immediately on the calling thread.
+     * </p>
+     *
+     * @param deadlineMillis the time, in epoch milliseconds, at which the listener is notified
+     * @param listener       the listener to register; must not be null
+     * @return a handle with which the listener can be cancelled before its deadline
+     */
+    public Timeout addDeadlineListener(long deadlineMillis, MutableTimeListener listener) {
+        DeadlineListener deadlineListener = new DeadlineListener(
+                deadlineMillis, deadlineListenerSequence.getAndIncrement(), Objects.requireNonNull(listener));
+        deadlineListeners.put(deadlineListener, Boolean.TRUE);
+        long now = currentMillis.get();
+        if (deadlineMillis <= now) {
+            notifyDeadlineListeners(now);
+        }
+        return deadlineListener;
+    }
+
+    private void notifyDeadlineListeners(long now) {
+        Map.Entry<DeadlineListener, Boolean> earliest;
+        while ((earliest = deadlineListeners.firstEntry()) != null) {
+            DeadlineListener deadlineListener = earliest.getKey();
+            if (deadlineListener.deadlineMillis > now) {
+                return;
+            }
+            if (deadlineListeners.remove(deadlineListener) != null) {
+                deadlineListener.expire(now);
+            }
+        }
+    }
+
+    private static final class DelayFuture extends CompletableFuture<Void> {
+
+        private volatile Timeout timeout;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Timeout deadlineListener = timeout;
+            if (cancelled && deadlineListener != null) {
+                deadlineListener.cancel();
+            }
+            return cancelled;
+        }
+    }
+
+    private final class Sleeper implements MutableTimeListener {
+
+        // Guarded by the simulation monitor
+        private boolean awake = false;
+
+        @Override
+        public void onTimeChanged(long newTimeMillis) {
+            wakeUp();
+        }
+
+        /**
+         * Stops counting the sleeper as sleeping, unless it has already been woken up.
+         *
+         * @return {@code true} if the sleeper was woken up by this call
+         */
+        boolean wakeUp() {
+            synchronized (simulationMonitor) {
+                if (awake) {
+                    return false;
+                }
+                awake = true;
+                sleeping--;
+                simulationMonitor.notifyAll();
+                return true;
+            }
+        }
+    }
+
+    private final class DeadlineListener implements Timeout, Comparable<DeadlineListener> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadlineMillis;
+        private final long sequence;
+        private final MutableTimeListener listener;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        DeadlineListener(long deadlineMillis, long sequence, MutableTimeListener listener) {
+            this.deadlineMillis = deadlineMillis;
+            this.sequence = sequence;
+            this.listener = listener;
+        }
+
+        void expire(long now) {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                listener.onTimeChanged(now);
+            } catch (Exception ignored) {
+                // Ignore exceptions from listeners to avoid breaking the time advancement
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            deadlineListeners.remove(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        @Override
+        public int compareTo(DeadlineListener that) {
+            int result = Long.compare(this.deadlineMillis, that.deadlineMillis);
+            return result != 0 ? result : Long.compare(this.sequence, that.sequence);
+        }
+    }
 }
@@ -0,0 +1,428 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone.test;
+
+import io.github.predatorray.timestone.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ScheduledExecutorService} implementation driven by the virtual time of a {@link MutableTime}.
+ *
+ * <p>Delayed and periodic tasks are kept in a priority queue ordered by their scheduled time.
+ * A single {@linkplain MutableTime#addDeadlineListener(long, MutableTimeListener) deadline listener} is armed
+ * for the earliest of them, so that advancing the time does not visit the queue until that task is due.
+ * They are not run until the {@code MutableTime} is {@linkplain MutableTime#advance(Duration) advanced}
+ * past their scheduled time, in which case they run on the thread advancing the time, in timestamp order.
+ * Tasks submitted without a delay run immediately on the calling thread,
+ * similar to {@link CallerRunsExecutorService}.
+ *
+ * <p>Since the time may jump over several periods in a single advancement,
+ * a fixed-rate task runs once for every period that has elapsed, while a fixed-delay task
+ * is rescheduled relative to the time at which it ran.
+ *
+ * <p>As with {@link java.util.concurrent.ScheduledThreadPoolExecutor}, delayed tasks that are already scheduled
+ * still run after {@link #shutdown()}, while periodic tasks are cancelled.
+ * {@link #awaitTermination(long, TimeUnit)} waits in virtual time as well, i.e. it only times out once
+ * the {@code MutableTime} has been advanced past the timeout by another thread.
+ */
+public class VirtualTimeScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final MutableTime time;
+
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Object lock = new Object();
+    private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+    private long sequence = 0;
+    private int runningTasks = 0;
+
+    // The deadline listener armed at or before the time of the head of the queue, guarded by the lock
+    private Timeout deadlineListener = null;
+    private long deadlineListenerMillis = Long.MAX_VALUE;
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new instance driven by the given {@link MutableTime}.
+     *
+     * @param time the {@code MutableTime} whose advancement triggers the scheduled tasks
+     * @throws NullPointerException if {@code time} is null
+     */
+    public VirtualTimeScheduledExecutorService(MutableTime time) {
+        this.time = Objects.requireNonNull(time);
+    }
+
+    /**
+     * Executes the given command immediately in the calling thread.
+     *
+     * @param command the runnable task
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        Objects.requireNonNull(unit);
+        return enqueue(new ScheduledTask<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(unit);
+        return enqueue(new ScheduledTask<>(callable, triggerTime(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        Objects.requireNonNull(unit);
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return enqueue(new ScheduledTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        Objects.requireNonNull(unit);
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return enqueue(new ScheduledTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        long delayNanos = unit.toNanos(Math.max(delay, 0));
+        long now = time.nanoTime();
+        return delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+    }
+
+    private <V> ScheduledTask<V> enqueue(ScheduledTask<V> task) {
+        synchronized (lock) {
+            rejectIfShutdown();
+            task.sequenceNumber = sequence++;
+            queue.add(task);
+        }
+        runDueTasks();
+        return task;
+    }
+
+    private void rejectIfShutdown() {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor service is shutdown");
+        }
+    }
+
+    private void runDueTasks() {
+        while (true) {
+            ScheduledTask<?> task;
+            synchronized (lock) {
+                task = queue.peek();
+                if (task == null || task.time - time.nanoTime() > 0) {
+                    break;
+                }
+                queue.poll();
+                runningTasks++;
+            }
+            try {
+                task.run();
+            } finally {
+                synchronized (lock) {
+                    runningTasks--;
+                }
+            }
+        }
+        boolean terminated;
+        synchronized (lock) {
+            lock.notifyAll();
+            terminated = isTerminatedLocked();
+        }
+        if (terminated) {
+            disarmDeadlineListener();
+        } else {
+            armDeadlineListener();
+        }
+    }
+
+    /**
+     * Arms a deadline listener for the time of the head of the queue, unless one is already armed at or before it.
+     * A listener armed for an earlier task that has since been cancelled merely re-arms itself when notified.
+     */
+    private void armDeadlineListener() {
+        long deadlineMillis;
+        Timeout previous;
+        synchronized (lock) {
+            ScheduledTask<?> head = queue.peek();
+            if (head == null) {
+                return;
+            }
+            deadlineMillis = -Math.floorDiv(-head.time, NANOS_PER_MILLI);
+            if (deadlineMillis >= deadlineListenerMillis) {
+                return;
+            }
+            previous = deadlineListener;
+            deadlineListener = null;
+            deadlineListenerMillis = deadlineMillis;
+        }
+        if (previous != null) {
+            previous.cancel();
+        }
+        Timeout timeout = time.addDeadlineListener(deadlineMillis, newTimeMillis -> onDeadline(deadlineMillis));
+        synchronized (lock) {
+            if (deadlineListenerMillis == deadlineMillis && deadlineListener == null) {
+                deadlineListener = timeout;
+                return;
+            }
+        }
+        // Superseded by an earlier deadline armed concurrently, or already notified
+        timeout.cancel();
+    }
+
+    private void onDeadline(long deadlineMillis) {
+        synchronized (lock) {
+            if (deadlineListenerMillis == deadlineMillis) {
+                deadlineListener = null;
+                deadlineListenerMillis = Long.MAX_VALUE;
+            }
+        }
+        runDueTasks();
+    }
+
+    private void disarmDeadlineListener() {
+        Timeout previous;
+        synchronized (lock) {
+            previous = deadlineListener;
+            deadlineListener = null;
+            deadlineListenerMillis = Long.MAX_VALUE;
+        }
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void reschedule(ScheduledTask<?> task) {
+        synchronized (lock) {
+            if (shutdown) {
+                task.cancel(false);
+                return;
+            }
+            queue.add(task);
+        }
+    }
+
+    /**
+     * Initiates an orderly shutdown. No new tasks will be accepted and periodic tasks are cancelled,
+     * but delayed tasks that have already been scheduled still run once their time is reached.
+     */
+    @Override
+    public void shutdown() {
+        List<ScheduledTask<?>> cancelled = new ArrayList<>();
+        boolean terminated;
+        synchronized (lock) {
+            shutdown = true;
+            for (Iterator<ScheduledTask<?>> iterator = queue.iterator(); iterator.hasNext(); ) {
+                ScheduledTask<?> task = iterator.next();
+                if (task.isPeriodic()) {
+                    iterator.remove();
+                    cancelled.add(task);
+                }
+            }
+            lock.notifyAll();
+            terminated = isTerminatedLocked();
+        }
+        for (ScheduledTask<?> task : cancelled) {
+            task.cancel(false);
+        }
+        if (terminated) {
+            disarmDeadlineListener();
+        }
+    }
+
+    /**
+     * Initiates an immediate shutdown. No new tasks will be accepted
+     * and all the tasks that are still waiting for their scheduled time are cancelled.
+     *
+     * @return the list of tasks that never commenced execution
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending;
+        synchronized (lock) {
+            shutdown = true;
+            pending = new ArrayList<>(queue);
+            queue.clear();
+            lock.notifyAll();
+        }
+        for (Runnable task : pending) {
+            ((ScheduledTask<?>) task).cancel(false);
+        }
+        disarmDeadlineListener();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (lock) {
+            return isTerminatedLocked();
+        }
+    }
+
+    private boolean isTerminatedLocked() {
+        return shutdown && queue.isEmpty() && runningTasks == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (lock) {
+            if (isTerminatedLocked()) {
+                return true;
+            }
+        }
+        long timeoutNanos = unit.toNanos(timeout);
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+        CompletableFuture<Void> timer = time.delay(-Math.floorDiv(-timeoutNanos, NANOS_PER_MILLI));
+        timer.thenRun(() -> {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        });
+        try {
+            synchronized (lock) {
+                while (!isTerminatedLocked()) {
+                    if (timer.isDone()) {
+                        return false;
+                    }
+                    lock.wait();
+                }
+                return true;
+            }
+        } finally {
+            timer.cancel(false);
+        }
+    }
+
+    private class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private long time;
+
+        /**
+         * Zero for a one-shot task, a positive value for a fixed-rate task
+         * and a negative value for a fixed-delay task, in nanoseconds.
+         */
+        private final long period;
+
+        private long sequenceNumber;
+
+        ScheduledTask(Runnable runnable, V result, long time, long period) {
+            super(runnable, result);
+            this.time = time;
+            this.period = period;
+        }
+
+        ScheduledTask(Callable<V> callable, long time) {
+            super(callable);
+            this.time = time;
+            this.period = 0;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - VirtualTimeScheduledExecutorService.this.time.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof ScheduledTask) {
+                ScheduledTask<?> that = (ScheduledTask<?>) other;
+                int result = Long.compare(this.time, that.time);
+                return result != 0 ? result : Long.compare(this.sequenceNumber, that.sequenceNumber);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                synchronized (lock) {
+                    queue.remove(this);
+                    lock.notifyAll();
+                }
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (super.runAndReset()) {
+                if (period > 0) {
+                    time += period;
+                } else {
+                    time = triggerTime(-period, TimeUnit.NANOSECONDS);
+                }
+                reschedule(this);
+            }
+        }
+    }
+}
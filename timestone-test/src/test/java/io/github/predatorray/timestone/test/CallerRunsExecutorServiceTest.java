@@ -31,8 +31,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -55,6 +58,74 @@ class CallerRunsExecutorServiceTest {
                 "The task should run in the calling thread, not in a new thread.");
     }
 
+    @Test
+    void testExecuteExceptionPropagatesToCaller() {
+        CallerRunsExecutorService executorService = new CallerRunsExecutorService();
+        IllegalStateException exception = new IllegalStateException();
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> executorService.execute(() -> {
+            throw exception;
+        })));
+
+        executorService.shutdown();
+        assertTrue(executorService.isTerminated());
+    }
+
+    @Test
+    void testSubmitCapturesException() {
+        CallerRunsExecutorService executorService = new CallerRunsExecutorService();
+        Future<?> future = executorService.submit(() -> {
+            throw new IllegalStateException();
+        });
+        assertTrue(future.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testManyThreadsShareExecutor() throws InterruptedException {
+        CallerRunsExecutorService executorService = new CallerRunsExecutorService();
+        AtomicInteger executed = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    executorService.execute(executed::incrementAndGet);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, executed.get());
+
+        executorService.shutdown();
+        assertTrue(executorService.isTerminated());
+        assertTrue(executorService.awaitTermination(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testAwaitTerminationIsNotifiedWhenTaskCompletes() throws InterruptedException {
+        CallerRunsExecutorService executorService = new CallerRunsExecutorService();
+        CountDownLatch executedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Thread executeThread = new Thread(() -> executorService.execute(() -> {
+            executedLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        executeThread.start();
+
+        executedLatch.await();
+        executorService.shutdown();
+        releaseLatch.countDown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        executeThread.join();
+    }
+
     @Test
     void testExecutorServiceNotShutdown() {
         CallerRunsExecutorService executorService = new CallerRunsExecutorService();
@@ -0,0 +1,281 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone.test;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ManualExecutorServiceTest {
+
+    @Test
+    void testTasksRunOnlyWhenAsked() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        List<Integer> executed = new ArrayList<>();
+        executorService.execute(() -> executed.add(1));
+        executorService.execute(() -> executed.add(2));
+
+        assertTrue(executed.isEmpty());
+        assertEquals(2, executorService.getQueuedTaskCount());
+        assertTrue(executorService.runNext());
+        assertEquals(Arrays.asList(1), executed);
+        assertTrue(executorService.runNext());
+        assertEquals(Arrays.asList(1, 2), executed);
+        assertFalse(executorService.runNext());
+        assertTrue(executorService.isIdle());
+    }
+
+    @Test
+    void testTasksRunOnCallingThread() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        Future<Thread> future = executorService.submit(Thread::currentThread);
+        assertFalse(future.isDone());
+        executorService.runNext();
+        assertTrue(future.isDone());
+        assertSame(Thread.currentThread(), join(future));
+    }
+
+    @Test
+    void testRunAllRunsOnlyTheQueuedTasks() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        List<String> executed = new ArrayList<>();
+        executorService.execute(() -> {
+            executed.add("a");
+            executorService.execute(() -> executed.add("c"));
+        });
+        executorService.execute(() -> executed.add("b"));
+
+        assertEquals(2, executorService.runAll());
+        assertEquals(Arrays.asList("a", "b"), executed);
+        assertEquals(1, executorService.getQueuedTaskCount());
+    }
+
+    @Test
+    void testRunUntilIdleRunsNewTasks() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        CompletableFuture<Integer> result = CompletableFuture.supplyAsync(() -> 1, executorService)
+                .thenApplyAsync(i -> i + 1, executorService)
+                .thenApplyAsync(i -> i * 10, executorService);
+
+        assertFalse(result.isDone());
+        assertEquals(3, executorService.runUntilIdle());
+        assertEquals(20, result.join());
+    }
+
+    @Test
+    void testExceptionPropagatesAndKeepsRemainingTasks() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        AtomicBoolean executed = new AtomicBoolean();
+        executorService.execute(() -> {
+            throw new IllegalStateException();
+        });
+        executorService.execute(() -> executed.set(true));
+
+        assertThrows(IllegalStateException.class, executorService::runAll);
+        assertFalse(executed.get());
+        assertEquals(1, executorService.runUntilIdle());
+        assertTrue(executed.get());
+    }
+
+    @Test
+    void testShutdownLetsQueuedTasksRun() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        AtomicBoolean executed = new AtomicBoolean();
+        executorService.execute(() -> executed.set(true));
+        executorService.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> executorService.execute(() -> {}));
+        assertTrue(executorService.isShutdown());
+        assertFalse(executorService.isTerminated());
+        executorService.runUntilIdle();
+        assertTrue(executed.get());
+        assertTrue(executorService.isTerminated());
+    }
+
+    @Test
+    void testShutdownNow() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        Runnable task = () -> {};
+        executorService.execute(task);
+
+        assertEquals(Arrays.asList(task), executorService.shutdownNow());
+        assertTrue(executorService.isTerminated());
+        assertFalse(executorService.runNext());
+    }
+
+    @Test
+    void testAwaitTerminationTimesOutWithMutableTime() throws Exception {
+        MutableTime time = new MutableTime();
+        ManualExecutorService executorService = new ManualExecutorService(time);
+        executorService.execute(() -> {});
+        executorService.shutdown();
+
+        CompletableFuture<Boolean> terminated = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                terminated.complete(executorService.awaitTermination(1, TimeUnit.MINUTES));
+            } catch (InterruptedException e) {
+                terminated.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        time.advance(Duration.ofSeconds(59));
+        assertFalse(terminated.isDone());
+        time.advance(Duration.ofSeconds(1));
+        assertFalse(terminated.get(10, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void testAwaitTerminationReturnsWhenTasksAreRun() throws Exception {
+        MutableTime time = new MutableTime();
+        ManualExecutorService executorService = new ManualExecutorService(time);
+        executorService.execute(() -> {});
+        executorService.shutdown();
+
+        CompletableFuture<Boolean> terminated = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                terminated.complete(executorService.awaitTermination(1, TimeUnit.MINUTES));
+            } catch (InterruptedException e) {
+                terminated.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        executorService.runUntilIdle();
+        assertTrue(terminated.get(10, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void testAwaitTerminationWithoutTimeout() throws InterruptedException {
+        ManualExecutorService executorService = new ManualExecutorService(new MutableTime());
+        executorService.execute(() -> {});
+        assertFalse(executorService.awaitTermination(0, TimeUnit.SECONDS));
+        executorService.shutdown();
+        executorService.runNext();
+        assertTrue(executorService.awaitTermination(0, TimeUnit.SECONDS));
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    void testInvokeAllRunsQueuedTasksInline() throws Exception {
+        ManualExecutorService executorService = new ManualExecutorService(new MutableTime());
+        List<Integer> executed = new ArrayList<>();
+        executorService.execute(() -> executed.add(0));
+        List<Callable<Integer>> tasks = Arrays.asList(() -> executed.add(1) ? 1 : 0, () -> executed.add(2) ? 2 : 0);
+        List<Future<Integer>> futures = executorService.invokeAll(tasks);
+        assertEquals(Arrays.asList(0, 1, 2), executed);
+        assertEquals(1, futures.get(0).get());
+        assertEquals(2, futures.get(1).get());
+        assertTrue(executorService.isIdle());
+    }
+
+    @Test
+    void testTimedInvokeAllTimesOutWhenTasksAdvanceTime() throws Exception {
+        MutableTime time = new MutableTime();
+        ManualExecutorService executorService = new ManualExecutorService(time);
+        List<Callable<String>> tasks = Arrays.asList(
+                () -> {
+                    time.advance(Duration.ofMillis(600));
+                    return "a";
+                },
+                () -> {
+                    time.advance(Duration.ofMillis(600));
+                    return "b";
+                },
+                () -> "c");
+        List<Future<String>> futures = executorService.invokeAll(tasks, 1, TimeUnit.SECONDS);
+        assertEquals("a", futures.get(0).get());
+        assertEquals("b", futures.get(1).get());
+        assertTrue(futures.get(2).isCancelled());
+        executorService.runUntilIdle();
+        assertTrue(futures.get(2).isCancelled());
+    }
+
+    @Test
+    void testInvokeAnyReturnsFirstSuccessfulResult() throws Exception {
+        ManualExecutorService executorService = new ManualExecutorService(new MutableTime());
+        List<Callable<String>> tasks = Arrays.asList(
+                () -> {
+                    throw new IllegalStateException();
+                },
+                () -> "b",
+                () -> "c");
+        assertEquals("b", executorService.invokeAny(tasks));
+        assertEquals("b", executorService.invokeAny(tasks, 1, TimeUnit.SECONDS));
+
+        List<Callable<String>> failingTasks = Arrays.asList(() -> {
+            throw new IllegalStateException();
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> executorService.invokeAny(failingTasks));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertThrows(IllegalArgumentException.class,
+                () -> executorService.invokeAny(new ArrayList<Callable<String>>()));
+    }
+
+    @Test
+    void testTimedInvokeAnyTimesOutWhenTasksAdvanceTime() {
+        MutableTime time = new MutableTime();
+        ManualExecutorService executorService = new ManualExecutorService(time);
+        List<Callable<String>> tasks = Arrays.asList(
+                () -> {
+                    time.advance(Duration.ofSeconds(1));
+                    throw new IllegalStateException();
+                },
+                () -> "b");
+        assertThrows(TimeoutException.class, () -> executorService.invokeAny(tasks, 1, TimeUnit.SECONDS));
+    }
+}
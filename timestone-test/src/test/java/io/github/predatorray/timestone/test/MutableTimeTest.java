@@ -24,10 +24,23 @@
 
 package io.github.predatorray.timestone.test;
 
+import io.github.predatorray.timestone.TimedCondition;
+import io.github.predatorray.timestone.TimedCountDownLatch;
+import io.github.predatorray.timestone.TimedSemaphore;
+import io.github.predatorray.timestone.Timeout;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -67,6 +80,24 @@ class MutableTimeTest {
         assertEquals(zone, mt.getZone());
     }
 
+    @Test
+    void testPrimitiveReads() {
+        long millis = 123456789L;
+        MutableTime mt = new MutableTime(millis);
+        assertEquals(millis, mt.millis());
+        assertEquals(millis * 1_000L, mt.epochMicros());
+        assertEquals(millis * 1_000_000L, mt.epochNanos());
+        assertEquals(millis * 1_000_000L, mt.nanoTime());
+    }
+
+    @Test
+    void testNanoTimeFollowsAdvance() {
+        MutableTime mt = new MutableTime(1000L);
+        long start = mt.nanoTime();
+        mt.advance(Duration.ofMillis(5));
+        assertEquals(Duration.ofMillis(5).toNanos(), mt.nanoTime() - start);
+    }
+
     @Test
     void testAdvance() {
         long millis = 1000L;
@@ -127,6 +158,13 @@ class MutableTimeTest {
         assertEquals(millis + 300, mt.instant().toEpochMilli());
     }
 
+    @Test
+    void testSleepNanosAdvancesTimeInWholeMillis() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        mt.sleepNanos(TimeUnit.MICROSECONDS.toNanos(1500));
+        assertEquals(2L, mt.millis());
+    }
+
     @Test
     void testSleepInterrupts() {
         MutableTime mt = new MutableTime();
@@ -142,4 +180,504 @@ class MutableTimeTest {
         assertEquals(ZoneId.of("Asia/Tokyo"), mt2.getZone());
         assertEquals(mt.instant(), mt2.instant());
     }
+
+    @Test
+    void testRegisterAndDeregister() {
+        MutableTime mt = new MutableTime(0L);
+        assertEquals(0, mt.getRegisteredParties());
+        mt.register();
+        mt.register();
+        assertEquals(2, mt.getRegisteredParties());
+        mt.deregister();
+        mt.deregister();
+        assertEquals(0, mt.getRegisteredParties());
+        assertThrows(IllegalStateException.class, mt::deregister);
+    }
+
+    @Test
+    void testSimulatedSleepWithSingleParty() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        mt.register();
+        try {
+            mt.sleep(300);
+            assertEquals(300, mt.millis());
+            mt.sleep(0);
+            assertEquals(300, mt.millis());
+        } finally {
+            mt.deregister();
+        }
+    }
+
+    @Test
+    void testSimulatedSleepJumpsToEarliestDeadline() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        List<String> wakeUps = Collections.synchronizedList(new ArrayList<>());
+        long[] sleeps = {300, 100, 200};
+        List<Thread> threads = new ArrayList<>();
+        for (long sleep : sleeps) {
+            mt.register();
+            threads.add(new Thread(() -> {
+                try {
+                    mt.sleep(sleep);
+                    wakeUps.add(sleep + "@" + mt.millis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    mt.deregister();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertEquals(Arrays.asList("100@100", "200@200", "300@300"), wakeUps);
+        assertEquals(300, mt.millis());
+    }
+
+    @Test
+    void testSimulatedSleepLoops() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        int parties = 4;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < parties; i++) {
+            long period = (i + 1) * 10L;
+            mt.register();
+            threads.add(new Thread(() -> {
+                try {
+                    for (int j = 0; j < 10; j++) {
+                        mt.sleep(period);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    mt.deregister();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        assertEquals(400, mt.millis());
+    }
+
+    @Test
+    void testSimulatedSleepIsWokenUpByAdvance() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        mt.register();
+        mt.register();
+        CompletableFuture<Long> wokenUpAt = new CompletableFuture<>();
+        Thread sleeper = new Thread(() -> {
+            try {
+                mt.sleep(1000);
+                wokenUpAt.complete(mt.millis());
+            } catch (InterruptedException e) {
+                wokenUpAt.completeExceptionally(e);
+            }
+        });
+        sleeper.start();
+        while (sleeper.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        mt.advance(Duration.ofMillis(500));
+        assertFalse(wokenUpAt.isDone());
+        mt.advance(Duration.ofMillis(500));
+        assertEquals(1000L, wokenUpAt.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSimulatedSleepInterrupted() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        mt.register();
+        mt.register();
+        CompletableFuture<Throwable> thrown = new CompletableFuture<>();
+        Thread sleeper = new Thread(() -> {
+            try {
+                mt.sleep(1000);
+                thrown.complete(null);
+            } catch (InterruptedException e) {
+                thrown.complete(e);
+            }
+        });
+        sleeper.start();
+        sleeper.interrupt();
+        assertTrue(thrown.get(10, TimeUnit.SECONDS) instanceof InterruptedException);
+        assertEquals(0, mt.millis());
+    }
+
+    @Test
+    void testSimulatedTimedWaitCountsAsSleeping() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        mt.register();
+        mt.register();
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        CompletableFuture<Long> sleeperWokenUpAt = new CompletableFuture<>();
+        List<Long> waiterWokenUpAt = new CopyOnWriteArrayList<>();
+        Thread sleeper = new Thread(() -> {
+            try {
+                mt.sleep(1000);
+                sleeperWokenUpAt.complete(mt.millis());
+                signal.complete(null);
+            } catch (InterruptedException e) {
+                sleeperWokenUpAt.completeExceptionally(e);
+            } finally {
+                mt.deregister();
+            }
+        });
+        Thread waiter = new Thread(() -> {
+            try {
+                mt.await(mt.delay(500));
+                waiterWokenUpAt.add(mt.millis());
+                CompletableFuture<Void> timeout = mt.delay(2000);
+                mt.await(CompletableFuture.anyOf(timeout, signal));
+                waiterWokenUpAt.add(mt.millis());
+                timeout.cancel(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                mt.deregister();
+            }
+        });
+        sleeper.start();
+        waiter.start();
+        assertEquals(1000L, sleeperWokenUpAt.get(10, TimeUnit.SECONDS));
+        waiter.join(TimeUnit.SECONDS.toMillis(10));
+        sleeper.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(Arrays.asList(500L, 1000L), waiterWokenUpAt);
+        assertEquals(1000L, mt.millis());
+    }
+
+    @Test
+    void testSimulatedTimedConditionAwait() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        ReentrantLock lock = new ReentrantLock();
+        TimedCondition condition = new TimedCondition(mt, lock);
+        mt.register();
+        mt.register();
+        CompletableFuture<Long> remainingNanos = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            try {
+                remainingNanos.complete(condition.awaitNanos(TimeUnit.SECONDS.toNanos(2)));
+            } catch (InterruptedException e) {
+                remainingNanos.completeExceptionally(e);
+            } finally {
+                lock.unlock();
+                mt.deregister();
+            }
+        });
+        waiter.start();
+        try {
+            mt.sleep(1000);
+            lock.lock();
+            try {
+                condition.signal();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(TimeUnit.SECONDS.toNanos(1), remainingNanos.get(10, TimeUnit.SECONDS));
+        waiter.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(1000L, mt.millis());
+
+        mt.register();
+        try {
+            lock.lock();
+            try {
+                assertTrue(condition.awaitNanos(TimeUnit.MILLISECONDS.toNanos(500)) <= 0);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(1500L, mt.millis());
+    }
+
+    @Test
+    void testSimulatedTimedCountDownLatchAwait() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        TimedCountDownLatch latch = new TimedCountDownLatch(mt, 1);
+        mt.register();
+        mt.register();
+        CompletableFuture<Long> openedAt = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                openedAt.complete(mt.millis());
+            } catch (Throwable e) {
+                openedAt.completeExceptionally(e);
+            } finally {
+                mt.deregister();
+            }
+        });
+        waiter.start();
+        try {
+            mt.sleep(3000);
+            latch.countDown();
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(3000L, openedAt.get(10, TimeUnit.SECONDS));
+        waiter.join(TimeUnit.SECONDS.toMillis(10));
+
+        TimedCountDownLatch closed = new TimedCountDownLatch(mt, 1);
+        mt.register();
+        try {
+            assertFalse(closed.await(5, TimeUnit.SECONDS));
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(8000L, mt.millis());
+    }
+
+    @Test
+    void testSimulatedTimedSemaphoreTryAcquire() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        TimedSemaphore semaphore = new TimedSemaphore(mt, 0);
+        mt.register();
+        mt.register();
+        List<Long> acquiredAt = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread acquirer = new Thread(() -> {
+            try {
+                assertFalse(semaphore.tryAcquire(2, TimeUnit.SECONDS));
+                acquiredAt.add(mt.millis());
+                assertTrue(semaphore.tryAcquire(10, TimeUnit.SECONDS));
+                acquiredAt.add(mt.millis());
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            } finally {
+                mt.deregister();
+            }
+        });
+        acquirer.start();
+        try {
+            mt.sleep(4000);
+            semaphore.release();
+        } finally {
+            mt.deregister();
+        }
+        done.get(10, TimeUnit.SECONDS);
+        acquirer.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(Arrays.asList(2000L, 4000L), acquiredAt);
+        assertEquals(4000L, mt.millis());
+    }
+
+    @Test
+    void testSimulatedTimedWaitInterrupted() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        mt.register();
+        mt.register();
+        CompletableFuture<Throwable> thrown = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                mt.await(mt.delay(1000));
+                thrown.complete(null);
+            } catch (InterruptedException e) {
+                thrown.complete(e);
+            }
+        });
+        waiter.start();
+        waiter.interrupt();
+        assertTrue(thrown.get(10, TimeUnit.SECONDS) instanceof InterruptedException);
+        mt.deregister();
+        mt.sleep(10);
+        assertEquals(10, mt.millis());
+    }
+
+    @Test
+    void testListenerSleepingWhileTimeJumps() throws Exception {
+        MutableTime mt = new MutableTime(0L);
+        List<Long> notified = new CopyOnWriteArrayList<>();
+        mt.addListener(newTimeMillis -> {
+            notified.add(newTimeMillis);
+            if (newTimeMillis == 100L) {
+                try {
+                    mt.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        mt.addDeadlineListener(120L, newTimeMillis -> notified.add(-newTimeMillis));
+        mt.register();
+        mt.register();
+        CompletableFuture<Long> first = new CompletableFuture<>();
+        CompletableFuture<Long> second = new CompletableFuture<>();
+        Thread[] threads = {
+                new Thread(() -> sleepAndRecord(mt, 100, first)),
+                new Thread(() -> sleepAndRecord(mt, 300, second))
+        };
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        assertEquals(150L, first.get(10, TimeUnit.SECONDS));
+        assertEquals(300L, second.get(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(100L, 150L, -150L, 300L), notified);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private static void sleepAndRecord(MutableTime mt, long millis, CompletableFuture<Long> wokenUpAt) {
+        try {
+            mt.sleep(millis);
+            wokenUpAt.complete(mt.millis());
+        } catch (InterruptedException e) {
+            wokenUpAt.completeExceptionally(e);
+        } finally {
+            mt.deregister();
+        }
+    }
+
+    @Test
+    void testDeadlineListenerIsNotifiedOnceCrossed() {
+        MutableTime mt = new MutableTime(1000L);
+        long[] notified = new long[1];
+        AtomicInteger count = new AtomicInteger();
+        Timeout timeout = mt.addDeadlineListener(1500L, newTimeMillis -> {
+            notified[0] = newTimeMillis;
+            count.incrementAndGet();
+        });
+
+        mt.advance(Duration.ofMillis(499));
+        assertEquals(0, count.get());
+        assertFalse(timeout.isExpired());
+
+        mt.advance(Duration.ofMillis(2));
+        assertEquals(1, count.get());
+        assertEquals(1501L, notified[0]);
+        assertTrue(timeout.isExpired());
+
+        mt.advance(Duration.ofMillis(1000));
+        assertEquals(1, count.get());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void testDeadlineListenersAreNotifiedInDeadlineOrder() {
+        MutableTime mt = new MutableTime(0L);
+        List<String> order = new ArrayList<>();
+        mt.addDeadlineListener(300L, newTimeMillis -> order.add("c"));
+        mt.addDeadlineListener(100L, newTimeMillis -> order.add("a"));
+        mt.addDeadlineListener(200L, newTimeMillis -> order.add("b1"));
+        mt.addDeadlineListener(200L, newTimeMillis -> order.add("b2"));
+        mt.addDeadlineListener(400L, newTimeMillis -> order.add("d"));
+
+        mt.advance(Duration.ofMillis(300));
+        assertEquals(Arrays.asList("a", "b1", "b2", "c"), order);
+    }
+
+    @Test
+    void testDeadlineListenerIsNotifiedImmediatelyIfReached() {
+        MutableTime mt = new MutableTime(1000L);
+        long[] notified = new long[1];
+        Timeout timeout = mt.addDeadlineListener(1000L, newTimeMillis -> notified[0] = newTimeMillis);
+        assertTrue(timeout.isExpired());
+        assertEquals(1000L, notified[0]);
+    }
+
+    @Test
+    void testCancelDeadlineListener() {
+        MutableTime mt = new MutableTime(0L);
+        AtomicInteger count = new AtomicInteger();
+        Timeout timeout = mt.addDeadlineListener(100L, newTimeMillis -> count.incrementAndGet());
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+
+        mt.advance(Duration.ofMillis(100));
+        assertEquals(0, count.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    void testDeadlineListenerIsNotNotifiedWhenRewound() {
+        MutableTime mt = new MutableTime(1000L);
+        AtomicInteger count = new AtomicInteger();
+        mt.addDeadlineListener(1100L, newTimeMillis -> count.incrementAndGet());
+        mt.advance(Duration.ofMillis(-500));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    void testDeadlineListenerExceptionIsIgnored() {
+        MutableTime mt = new MutableTime(0L);
+        AtomicInteger count = new AtomicInteger();
+        mt.addDeadlineListener(100L, newTimeMillis -> {
+            throw new IllegalStateException();
+        });
+        mt.addDeadlineListener(100L, newTimeMillis -> count.incrementAndGet());
+        mt.advance(Duration.ofMillis(100));
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testDelayCompletesWhenAdvanced() {
+        MutableTime mt = new MutableTime(0L);
+        CompletableFuture<Void> delay = mt.delay(1000);
+        mt.advance(Duration.ofMillis(999));
+        assertFalse(delay.isDone());
+        mt.advance(Duration.ofMillis(1));
+        assertTrue(delay.isDone());
+        assertFalse(delay.isCompletedExceptionally());
+    }
+
+    @Test
+    void testDelayNotPositiveCompletesImmediately() {
+        MutableTime mt = new MutableTime(0L);
+        assertTrue(mt.delay(0).isDone());
+        assertTrue(mt.delay(-1).isDone());
+    }
+
+    @Test
+    void testCancelDelay() {
+        MutableTime mt = new MutableTime(0L);
+        CompletableFuture<Void> delay = mt.delay(1000);
+        AtomicInteger count = new AtomicInteger();
+        delay.thenRun(count::incrementAndGet);
+        assertTrue(delay.cancel(false));
+        mt.advance(Duration.ofMillis(1000));
+        assertTrue(delay.isCancelled());
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    void testSimulatedSleepCompletesDelay() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        long[] completedAt = new long[1];
+        mt.delay(30).thenRun(() -> completedAt[0] = mt.millis());
+        mt.register();
+        try {
+            mt.sleep(100);
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(30L, completedAt[0]);
+    }
+
+    @Test
+    void testSimulatedSleepJumpsToDeadlineListener() throws InterruptedException {
+        MutableTime mt = new MutableTime(0L);
+        long[] notified = new long[1];
+        mt.addDeadlineListener(50L, newTimeMillis -> notified[0] = newTimeMillis);
+        mt.register();
+        try {
+            mt.sleep(100);
+        } finally {
+            mt.deregister();
+        }
+        assertEquals(50L, notified[0]);
+        assertEquals(100L, mt.millis());
+    }
 }
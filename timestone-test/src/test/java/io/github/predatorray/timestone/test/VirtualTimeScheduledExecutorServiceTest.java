@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Wenhao Ji <predator.ray@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.predatorray.timestone.test;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualTimeScheduledExecutorServiceTest {
+
+    @Test
+    void testExecuteUsingSameThread() {
+        VirtualTimeScheduledExecutorService executorService =
+                new VirtualTimeScheduledExecutorService(new MutableTime(0L));
+        CompletableFuture<Thread> completableFuture = new CompletableFuture<>();
+        executorService.execute(() -> completableFuture.complete(Thread.currentThread()));
+
+        assertTrue(completableFuture.isDone());
+        assertSame(Thread.currentThread(), completableFuture.join());
+    }
+
+    @Test
+    void testScheduleRunsWhenTimeIsAdvanced() throws Exception {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        ScheduledFuture<String> future = executorService.schedule(() -> "done", 1, TimeUnit.HOURS);
+
+        assertEquals(Duration.ofHours(1).toMillis(), future.getDelay(TimeUnit.MILLISECONDS));
+        time.advance(Duration.ofMinutes(59));
+        assertFalse(future.isDone());
+        time.advance(Duration.ofMinutes(1));
+        assertTrue(future.isDone());
+        assertEquals("done", future.get());
+    }
+
+    @Test
+    void testTasksRunInTimestampOrder() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        List<Integer> order = new ArrayList<>();
+        executorService.schedule(() -> order.add(3), 30, TimeUnit.SECONDS);
+        executorService.schedule(() -> order.add(1), 10, TimeUnit.SECONDS);
+        executorService.schedule(() -> order.add(2), 20, TimeUnit.SECONDS);
+        executorService.schedule(() -> order.add(4), 20, TimeUnit.SECONDS);
+
+        time.advance(Duration.ofMinutes(1));
+        assertEquals(Arrays.asList(1, 2, 4, 3), order);
+    }
+
+    @Test
+    void testScheduleAtFixedRateCatchesUp() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        AtomicInteger counter = new AtomicInteger();
+        executorService.scheduleAtFixedRate(counter::incrementAndGet, 1, 1, TimeUnit.HOURS);
+
+        time.advance(Duration.ofDays(1));
+        assertEquals(24, counter.get());
+        time.advance(Duration.ofMinutes(30));
+        assertEquals(24, counter.get());
+        time.advance(Duration.ofMinutes(30));
+        assertEquals(25, counter.get());
+    }
+
+    @Test
+    void testScheduleWithFixedDelayIsRelativeToLastRun() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        AtomicInteger counter = new AtomicInteger();
+        executorService.scheduleWithFixedDelay(counter::incrementAndGet, 1, 1, TimeUnit.HOURS);
+
+        time.advance(Duration.ofDays(1));
+        assertEquals(1, counter.get());
+        time.advance(Duration.ofHours(1));
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void testInvalidPeriod() {
+        VirtualTimeScheduledExecutorService executorService =
+                new VirtualTimeScheduledExecutorService(new MutableTime(0L));
+        assertThrows(IllegalArgumentException.class,
+                () -> executorService.scheduleAtFixedRate(() -> {}, 0, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> executorService.scheduleWithFixedDelay(() -> {}, 0, -1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancel() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future =
+                executorService.scheduleAtFixedRate(counter::incrementAndGet, 1, 1, TimeUnit.SECONDS);
+
+        time.advance(Duration.ofSeconds(3));
+        assertTrue(future.cancel(false));
+        time.advance(Duration.ofSeconds(3));
+        assertEquals(3, counter.get());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void testDeadlineIsRearmedWhenTheEarliestTaskChanges() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        List<String> executed = new ArrayList<>();
+        executorService.schedule(() -> executed.add("5s"), 5, TimeUnit.SECONDS);
+        ScheduledFuture<?> cancelled = executorService.schedule(() -> executed.add("1s"), 1, TimeUnit.SECONDS);
+        executorService.schedule(() -> executed.add("2s"), 2, TimeUnit.SECONDS);
+        executorService.schedule(() -> executed.add("500us"), 500, TimeUnit.MICROSECONDS);
+        cancelled.cancel(false);
+
+        time.advance(Duration.ofMillis(1));
+        assertEquals(Arrays.asList("500us"), executed);
+        time.advance(Duration.ofMillis(1998));
+        assertEquals(Arrays.asList("500us"), executed);
+        time.advance(Duration.ofMillis(1));
+        assertEquals(Arrays.asList("500us", "2s"), executed);
+        time.advance(Duration.ofSeconds(3));
+        assertEquals(Arrays.asList("500us", "2s", "5s"), executed);
+        assertFalse(executorService.isTerminated());
+    }
+
+    @Test
+    void testExceptionIsCaptured() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        Future<?> future = executorService.schedule(() -> {
+            throw new IllegalStateException("failure");
+        }, 1, TimeUnit.SECONDS);
+
+        time.advance(Duration.ofSeconds(1));
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testShutdownRunsDelayedTasksAndCancelsPeriodicTasks() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        ScheduledFuture<?> delayed = executorService.schedule(() -> {}, 1, TimeUnit.SECONDS);
+        ScheduledFuture<?> periodic = executorService.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.SECONDS);
+
+        executorService.shutdown();
+        assertTrue(executorService.isShutdown());
+        assertFalse(executorService.isTerminated());
+        assertTrue(periodic.isCancelled());
+        assertThrows(RejectedExecutionException.class, () -> executorService.execute(() -> {}));
+
+        time.advance(Duration.ofSeconds(1));
+        assertTrue(delayed.isDone());
+        assertTrue(executorService.isTerminated());
+    }
+
+    @Test
+    void testShutdownNow() {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        ScheduledFuture<?> delayed = executorService.schedule(() -> {}, 1, TimeUnit.SECONDS);
+
+        List<Runnable> pending = executorService.shutdownNow();
+        assertEquals(1, pending.size());
+        assertTrue(delayed.isCancelled());
+        assertTrue(executorService.isTerminated());
+    }
+
+    @Test
+    void testAwaitTerminationInVirtualTime() throws Exception {
+        MutableTime time = new MutableTime(0L);
+        VirtualTimeScheduledExecutorService executorService = new VirtualTimeScheduledExecutorService(time);
+        executorService.schedule(() -> {}, 1, TimeUnit.HOURS);
+        executorService.shutdown();
+
+        assertFalse(executorService.awaitTermination(0, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> terminated = new CompletableFuture<>();
+        Thread awaitingThread = new Thread(() -> {
+            try {
+                terminated.complete(executorService.awaitTermination(2, TimeUnit.HOURS));
+            } catch (InterruptedException e) {
+                terminated.completeExceptionally(e);
+            }
+        });
+        awaitingThread.start();
+        time.advance(Duration.ofHours(1));
+        awaitingThread.join();
+        assertTrue(terminated.get());
+    }
+}